@@ -16,15 +16,20 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.MedLogger;
+import seedu.address.model.MedLoggerFileFormat;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyMedLogger;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryMedLoggerStorage;
+import seedu.address.storage.JournaledMedLoggerStorage;
 import seedu.address.storage.JsonMedLoggerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.MedLoggerStorage;
+import seedu.address.storage.MigratingMedLoggerStorage;
+import seedu.address.storage.ShardedMedLoggerStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,7 +62,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        MedLoggerStorage medLoggerStorage = new JsonMedLoggerStorage(userPrefs.getMedLoggerFilePath());
+        MedLoggerStorage medLoggerStorage = createMedLoggerStorage(userPrefs);
         storage = new StorageManager(medLoggerStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,6 +72,34 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the data at the location, in the format and with the layout given by
+     * {@code userPrefs}. Data saved with the other layout is moved to the one given.
+     */
+    private MedLoggerStorage createMedLoggerStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getMedLoggerFilePath();
+        MedLoggerFileFormat format = userPrefs.getMedLoggerFileFormat();
+        MedLoggerStorage singleFileStorage = new JournaledMedLoggerStorage(createFileStorage(format, filePath));
+        MedLoggerStorage shardedStorage = new ShardedMedLoggerStorage(filePath,
+                shardPath -> createFileStorage(format, shardPath));
+
+        return userPrefs.isMedLoggerSharded()
+                ? new MigratingMedLoggerStorage(shardedStorage, singleFileStorage)
+                : new MigratingMedLoggerStorage(singleFileStorage, shardedStorage);
+    }
+
+    /**
+     * Returns the storage for a single data file at {@code filePath}, saved in {@code format}.
+     */
+    private static MedLoggerStorage createFileStorage(MedLoggerFileFormat format, Path filePath) {
+        switch (format) {
+        case BINARY:
+            return new BinaryMedLoggerStorage(filePath);
+        default:
+            return new JsonMedLoggerStorage(filePath);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s Med Logger and {@code userPrefs}. <br>
      * The data from the sample Med Logger will be used instead if {@code storage}'s Med Logger is not found,
@@ -177,6 +210,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping MedLogger ] =============================");
+        try {
+            logic.flushSaves();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -1,11 +1,17 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -24,6 +30,8 @@ import javafx.stage.FileChooser;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -88,28 +96,84 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as described in {@link #writeAtomically(Path, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, outputStream -> outputStream.write(bytes));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to {@code file}, so that a crash while writing
+     * never leaves {@code file} partly written.
+     * The content is written to a temporary file next to {@code file}, forced to disk, and then moved over
+     * {@code file} in a single step where the file system supports it. The directory holding {@code file} is then
+     * forced to disk too, where the platform allows it, so that the move itself survives a crash.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        writeAtomically(file, contentWriter, writtenFile -> {});
+    }
+
+    /**
+     * Similar to {@link #writeAtomically(Path, ContentWriter)}, but runs {@code beforeReplace} on the new content
+     * once it is on disk, just before it replaces {@code file}.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter, BeforeReplace beforeReplace)
+            throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFile),
+                    BUFFER_SIZE)) {
+                contentWriter.write(outputStream);
+            }
+            // The stream may have been closed by the writer, so the file is forced to disk through a new channel.
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            beforeReplace.run(tempFile);
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory(file.toAbsolutePath().getParent());
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just moved into it, to disk, so that the move is not
+     * lost in a crash. Does nothing on platforms that cannot open a directory for this, such as Windows.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The file has been replaced either way; only its durability across a crash is left to the platform.
+        }
     }
 
     /**
      * Opens a file save dialog. After user specify the saved location from the dialog,
-     * exports a file from sourcePath as either JSON or CSV.
+     * exports the given JSON data as either JSON or CSV.
      *
-     * @param sourcePath the path to the source JSON file containing the data to export
+     * @param content the JSON data to export
      * @param fileType the type of file to export ("json" or "csv")
      * @param defaultName the default file name to suggest in the save dialog
      * @throws IOException if the user cancels the save dialog, the file type is invalid,
      *                     data parsing fails, or writing to the selected file fails
      */
-    public static void saveWithDialog(Path sourcePath, String fileType, String defaultName) throws IOException {
+    public static void saveWithDialog(String content, String fileType, String defaultName) throws IOException {
         File selectedFile = FileUtil.promptSaveDialog(fileType, defaultName);
         if (selectedFile == null) {
             throw new IOException("Export cancelled by user.");
         }
 
-        String content = FileUtil.readFromFile(sourcePath);
         if (fileType.equals("json")) {
             FileUtil.writeToFile(selectedFile.toPath(), content);
         } else if (fileType.equals("csv")) {
@@ -234,4 +298,20 @@ public class FileUtil {
         }
         return csvBuilder;
     }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * Runs on the fully written new content of a file, before it replaces the file.
+     */
+    @FunctionalInterface
+    public interface BeforeReplace {
+        void run(Path writtenFile) throws IOException;
+    }
 }
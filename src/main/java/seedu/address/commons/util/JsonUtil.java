@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -101,6 +106,29 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Returns a streaming parser over {@code inputStream}.
+     * Values read through the parser with {@link JsonParser#readValueAs(Class)} are mapped with the same
+     * settings as {@link #fromJsonString(String, Class)}.
+     */
+    public static JsonParser createParser(InputStream inputStream) throws IOException {
+        return objectMapper.getFactory().createParser(inputStream);
+    }
+
+    /**
+     * Returns a streaming generator that writes UTF-8 encoded JSON to {@code outputStream}.
+     * Closing the generator also closes {@code outputStream}.
+     *
+     * @param prettyPrint whether the output should be indented for human readers.
+     */
+    public static JsonGenerator createGenerator(OutputStream outputStream, boolean prettyPrint) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+        if (prettyPrint) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
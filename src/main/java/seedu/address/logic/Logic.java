@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
@@ -10,6 +11,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyMedLogger;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Visit;
+import seedu.address.model.person.VisitQuery;
 
 /**
  * API of the Logic component
@@ -24,6 +26,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Waits for all changes made by executed commands to be saved to storage.
+     * @throws IOException if some changes could not be saved.
+     */
+    void flushSaves() throws IOException;
+
     /**
      * Returns the MedLogger.
      *
@@ -55,10 +63,9 @@ public interface Logic {
     GuiSettings getGuiSettings();
 
     /**
-     * Updates the filtered list of persons to filter by the given {@code predicate}.
-     * @param predicate The predicate to filter the list of persons.
+     * Updates the visit list to show the visits matching {@code query}.
      */
-    void updateFilteredVisitList(java.util.function.Predicate<Visit> predicate);
+    void updateFilteredVisitList(VisitQuery query);
 
     /**
      * Set the user prefs' GUI settings.
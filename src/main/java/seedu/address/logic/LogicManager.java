@@ -5,7 +5,9 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
-import java.util.function.Predicate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,10 +18,12 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.MedLoggerParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.MedLoggerChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyMedLogger;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Visit;
+import seedu.address.model.person.VisitQuery;
 import seedu.address.storage.Storage;
 
 /**
@@ -34,16 +38,29 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final MedLoggerParser medLoggerParser;
+    private final MedLoggerSaver saver;
+    private final List<MedLoggerChange> unsavedChanges = new ArrayList<>();
+    private long savedVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes to the model are saved to storage in the background.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new MedLoggerSaver(storage, model.getMedLogger()));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, which saves changes to the model with
+     * {@code saver}.
+     */
+    LogicManager(Model model, MedLoggerSaver saver) {
         this.model = model;
-        this.storage = storage;
+        this.saver = saver;
         medLoggerParser = new MedLoggerParser();
+        model.addMedLoggerListener(unsavedChanges::add);
+        savedVersion = model.getMedLoggerVersion();
     }
 
     @Override
@@ -54,17 +71,34 @@ public class LogicManager implements Logic {
         Command command = medLoggerParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveMedLogger(model.getMedLogger());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        // Commands that do not change the data, such as lookups, do not need to be saved.
+        if (model.getMedLoggerVersion() != savedVersion) {
+            saver.submit(List.copyOf(unsavedChanges));
+            unsavedChanges.clear();
+            savedVersion = model.getMedLoggerVersion();
         }
 
+        // Saves run in the background, so a failure is reported with whichever command comes after it.
+        Optional<IOException> saveFailure = saver.pollFailure();
+        if (saveFailure.isPresent()) {
+            return new CommandResult(commandResult.getFeedbackToUser() + "\n" + getSaveErrorMessage(saveFailure.get()),
+                    commandResult.isShowHelp(), commandResult.isExit());
+        }
         return commandResult;
     }
 
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public void flushSaves() throws IOException {
+        saver.flush();
+    }
+
     @Override
     public ReadOnlyMedLogger getMedLogger() {
         return model.getMedLogger();
@@ -86,9 +120,9 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public void updateFilteredVisitList(Predicate<Visit> predicate) {
-        requireNonNull(predicate);
-        model.updateFilteredVisitList(predicate);
+    public void updateFilteredVisitList(VisitQuery query) {
+        requireNonNull(query);
+        model.updateFilteredVisitList(query, Model.PREDICATE_SHOW_ALL_VISITS);
     }
 
     @Override
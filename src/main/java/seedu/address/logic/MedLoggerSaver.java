@@ -0,0 +1,235 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.MedLoggerChange;
+import seedu.address.model.ReadOnlyMedLogger;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves MedLogger data to storage behind the caller's back, on a dedicated thread.
+ * <p>
+ * The saver keeps its own copy of the data, which it brings up to date by applying the submitted changes on its
+ * own thread, so the caller only hands over the changes made by each command, and never copies the data. Storages
+ * that save the whole data, or compact their journal, read it from this copy.
+ * <p>
+ * Changes submitted while a write is in progress are coalesced into the next write. If a write fails, its changes
+ * are kept and written again with the next submission, and the failure is kept until it is reported with
+ * {@link #pollFailure()}. If a change cannot be applied to the copy, the copy no longer matches the data, so the
+ * changes not saved yet are dropped. The data is then copied again with the next submission, on the caller's
+ * thread, and saved in full.
+ */
+class MedLoggerSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(MedLoggerSaver.class);
+
+    private final Storage storage;
+    private final Executor executor;
+    private final ReadOnlyMedLogger data;
+    private final List<MedLoggerChange> submittedChanges = new ArrayList<>();
+    private final List<MedLoggerChange> unsavedChanges = new ArrayList<>();
+    private SavedMedLogger savedData;
+    private SavedMedLogger dataToSaveInFull;
+    private boolean isOutOfSync;
+    private boolean isWriting;
+    private IOException unreportedFailure;
+
+    /**
+     * Creates a {@code MedLoggerSaver} that writes the changes made to {@code data} to {@code storage} on its own
+     * daemon thread. {@code data} is only read on the thread that submits the changes.
+     */
+    MedLoggerSaver(Storage storage, ReadOnlyMedLogger data) {
+        this(storage, data, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "medlogger-saver");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code MedLoggerSaver} that writes the changes made to {@code data} to {@code storage} using
+     * {@code executor}. {@code data} is only read on the thread that submits the changes.
+     */
+    MedLoggerSaver(Storage storage, ReadOnlyMedLogger data, Executor executor) {
+        requireAllNonNull(storage, data, executor);
+        this.storage = storage;
+        this.executor = executor;
+        this.data = data;
+        this.savedData = new SavedMedLogger(data);
+    }
+
+    /**
+     * Queues {@code changes}, the changes made to the data since the last submission, to be saved.
+     */
+    synchronized void submit(List<MedLoggerChange> changes) {
+        requireNonNull(changes);
+        if (isOutOfSync) {
+            // The data copied now already includes the changes.
+            copyDataToSaveInFull();
+        } else {
+            submittedChanges.addAll(changes);
+        }
+        if (!isWriting) {
+            isWriting = true;
+            executor.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Returns the failure of the latest write that failed since this method was last called, if any.
+     */
+    synchronized Optional<IOException> pollFailure() {
+        Optional<IOException> failure = Optional.ofNullable(unreportedFailure);
+        unreportedFailure = null;
+        return failure;
+    }
+
+    /**
+     * Waits for the write in progress to finish, then writes any changes that are still pending on the caller's
+     * thread.
+     *
+     * @throws IOException if the pending changes could not be written.
+     */
+    void flush() throws IOException {
+        synchronized (this) {
+            while (isWriting) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+                }
+            }
+            if (isOutOfSync) {
+                copyDataToSaveInFull();
+            }
+            if (!hasPendingChanges()) {
+                return;
+            }
+            isWriting = true;
+        }
+
+        writePending();
+
+        synchronized (this) {
+            if (hasPendingChanges()) {
+                IOException failure = unreportedFailure;
+                unreportedFailure = null;
+                throw failure;
+            }
+        }
+    }
+
+    private boolean hasPendingChanges() {
+        return dataToSaveInFull != null || !submittedChanges.isEmpty() || !unsavedChanges.isEmpty();
+    }
+
+    /**
+     * Copies the data to be saved in full, in place of the changes that are not saved yet.
+     * Must be called on the thread that submits the changes.
+     */
+    private void copyDataToSaveInFull() {
+        assert Thread.holdsLock(this);
+        dataToSaveInFull = new SavedMedLogger(data);
+        submittedChanges.clear();
+        unsavedChanges.clear();
+        isOutOfSync = false;
+    }
+
+    /**
+     * Writes pending changes until there are none left, or a write fails.
+     * Whatever happens, the write is over when this returns, so callers waiting for it are never left waiting.
+     */
+    private void writePending() {
+        try {
+            while (writeNext()) {
+                // Keeps writing while changes are submitted during the writes.
+            }
+        } finally {
+            synchronized (this) {
+                isWriting = false;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Saves the data in full if it was copied again, or else applies the submitted changes to the saved data, and
+     * writes the changes that are not saved yet.
+     *
+     * @return true if the data or changes were written, and false if there were none, or the write failed.
+     */
+    private boolean writeNext() {
+        List<MedLoggerChange> changes = List.of();
+        SavedMedLogger fullData;
+        synchronized (this) {
+            if (!hasPendingChanges()) {
+                return false;
+            }
+            fullData = dataToSaveInFull;
+            // Changes submitted after the data was copied are applied once it is saved.
+            if (fullData == null) {
+                changes = List.copyOf(submittedChanges);
+                submittedChanges.clear();
+            }
+        }
+
+        try {
+            if (fullData != null) {
+                savedData = fullData;
+                storage.saveMedLogger(savedData);
+                synchronized (this) {
+                    if (dataToSaveInFull == fullData) {
+                        dataToSaveInFull = null;
+                    }
+                }
+                return true;
+            }
+            for (MedLoggerChange change : changes) {
+                try {
+                    savedData.apply(change);
+                } catch (RuntimeException e) {
+                    synchronized (this) {
+                        unsavedChanges.clear();
+                        isOutOfSync = true;
+                    }
+                    throw e;
+                }
+                synchronized (this) {
+                    unsavedChanges.add(change);
+                }
+            }
+            List<MedLoggerChange> changesToSave;
+            synchronized (this) {
+                changesToSave = List.copyOf(unsavedChanges);
+            }
+            storage.saveMedLoggerChanges(savedData, changesToSave);
+            synchronized (this) {
+                unsavedChanges.subList(0, changesToSave.size()).clear();
+            }
+            return true;
+        } catch (IOException ioe) {
+            recordFailure(ioe);
+        } catch (RuntimeException e) {
+            // Anything else that goes wrong in storage is reported like an I/O failure, rather than stopping saves.
+            recordFailure(new IOException(e.getMessage(), e));
+        }
+        return false;
+    }
+
+    private synchronized void recordFailure(IOException failure) {
+        logger.warning("Failed to save data: " + failure);
+        unreportedFailure = failure;
+    }
+}
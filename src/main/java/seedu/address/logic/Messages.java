@@ -53,11 +53,10 @@ public class Messages {
     }
 
     /**
-     * Formats the {@code person} for display to the user.
+     * Formats the {@code visit} of {@code person} for display to the user.
      */
-    public static String format(Visit visit) {
+    public static String format(Visit visit, Person person) {
         final StringBuilder builder = new StringBuilder();
-        Person person = visit.getPerson();
         builder.append(person.getName())
                 .append("; Nric: ")
                 .append(person.getNric())
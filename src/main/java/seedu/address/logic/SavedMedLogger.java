@@ -0,0 +1,214 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.MedLoggerChange;
+import seedu.address.model.ReadOnlyMedLogger;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonVisitDictionary;
+import seedu.address.model.person.Visit;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.DuplicateVisitException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.person.exceptions.VisitNotFoundException;
+
+/**
+ * The copy of the Med Logger data that a {@code MedLoggerSaver} brings up to date with the changes it saves.
+ * <p>
+ * Unlike a {@code MedLogger}, it only keeps the persons by NRIC, the visits by ID and the person-visit dictionary
+ * that storages read, without the indexes used to look up visits and persons. The person and visit lists are only
+ * built when a storage reads them.
+ * <p>
+ * Not thread-safe; it is only used by the thread writing the changes.
+ */
+class SavedMedLogger implements ReadOnlyMedLogger {
+
+    private final Map<Nric, Person> persons = new LinkedHashMap<>();
+    private final Map<Long, Visit> visits = new LinkedHashMap<>();
+    private final PersonVisitDictionary dictionary = new PersonVisitDictionary();
+    private ObservableList<Person> personList;
+    private ObservableList<Visit> visitList;
+
+    /**
+     * Creates a copy of the current data in {@code data}, whose visits must all have IDs.
+     */
+    SavedMedLogger(ReadOnlyMedLogger data) {
+        requireNonNull(data);
+        reset(data);
+    }
+
+    /**
+     * Makes {@code change} to this copy.
+     *
+     * @throws RuntimeException if {@code change} does not fit the data in this copy, which is then left partly
+     *     changed.
+     */
+    void apply(MedLoggerChange change) {
+        requireNonNull(change);
+        personList = null;
+        visitList = null;
+        switch (change.getType()) {
+        case ADD_PERSON:
+            addPerson(change.getPerson());
+            break;
+        case SET_PERSON:
+            setPerson(change.getTargetPerson(), change.getPerson());
+            break;
+        case REMOVE_PERSON:
+            removePerson(change.getTargetPerson());
+            break;
+        case ADD_VISIT:
+            addVisit(change.getVisit());
+            break;
+        case SET_VISIT:
+            setVisit(change.getTargetVisit(), change.getVisit());
+            break;
+        case REMOVE_VISIT:
+            removeVisit(change.getTargetVisit());
+            break;
+        case CLEAR_VISITS:
+            visits.clear();
+            dictionary.clearVisits();
+            break;
+        case RESET:
+            reset(change.getNewData());
+            break;
+        default:
+            throw new AssertionError("Unknown change type: " + change.getType());
+        }
+    }
+
+    private void reset(ReadOnlyMedLogger newData) {
+        persons.clear();
+        visits.clear();
+        for (Person person : newData.getPersonList()) {
+            persons.put(person.getNric(), person);
+        }
+        for (Visit visit : newData.getVisitList()) {
+            visits.put(getId(visit), visit);
+        }
+        dictionary.setDictionary(newData.getPersonList(), newData.getVisitList());
+    }
+
+    private void addPerson(Person person) {
+        if (persons.containsKey(person.getNric())) {
+            throw new DuplicatePersonException();
+        }
+        dictionary.addPerson(person);
+        persons.put(person.getNric(), person);
+    }
+
+    private void setPerson(Person target, Person editedPerson) {
+        if (!persons.containsKey(target.getNric())) {
+            throw new PersonNotFoundException();
+        }
+        if (target.getNric().equals(editedPerson.getNric())) {
+            dictionary.setPerson(target, editedPerson);
+            persons.put(editedPerson.getNric(), editedPerson);
+            return;
+        }
+
+        List<Visit> targetVisits = List.copyOf(dictionary.getVisitsForPerson(target));
+        dictionary.setPerson(target, editedPerson);
+        for (Visit visit : targetVisits) {
+            visits.put(visit.getId(), visit.withNric(editedPerson.getNric()));
+        }
+        // NRIC changes are rare, so the persons are copied to keep the edited person in the same place.
+        Map<Nric, Person> editedPersons = new LinkedHashMap<>();
+        persons.forEach((nric, person) -> editedPersons.put(
+                person.isSamePerson(target) ? editedPerson.getNric() : nric,
+                person.isSamePerson(target) ? editedPerson : person));
+        persons.clear();
+        persons.putAll(editedPersons);
+    }
+
+    private void removePerson(Person target) {
+        if (!persons.containsKey(target.getNric())) {
+            throw new PersonNotFoundException();
+        }
+        for (Visit visit : dictionary.getVisitsForPerson(target)) {
+            visits.remove(visit.getId());
+        }
+        dictionary.removePerson(target);
+        persons.remove(target.getNric());
+    }
+
+    private void addVisit(Visit visit) {
+        if (visits.containsKey(getId(visit))) {
+            throw new DuplicateVisitException();
+        }
+        dictionary.addVisit(visit);
+        visits.put(visit.getId(), visit);
+    }
+
+    private void setVisit(Visit target, Visit editedVisit) {
+        // The edited visit has the ID of the visit it replaces, which the target may not have.
+        if (!visits.containsKey(getId(editedVisit))) {
+            throw new VisitNotFoundException();
+        }
+        dictionary.setVisit(target, editedVisit);
+        visits.put(editedVisit.getId(), editedVisit);
+    }
+
+    private void removeVisit(Visit target) {
+        if (!visits.containsKey(getId(target))) {
+            throw new VisitNotFoundException();
+        }
+        dictionary.removeVisit(target);
+        visits.remove(target.getId());
+    }
+
+    /**
+     * Returns the ID of {@code visit}, which it must have to be kept in this copy.
+     */
+    private static long getId(Visit visit) {
+        if (!visit.hasId()) {
+            throw new IllegalArgumentException("Visit has not been added to a visit list: " + visit);
+        }
+        return visit.getId();
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        if (personList == null) {
+            personList = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(persons.values()));
+        }
+        return personList;
+    }
+
+    @Override
+    public ObservableList<Visit> getVisitList() {
+        if (visitList == null) {
+            visitList = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(visits.values()));
+        }
+        return visitList;
+    }
+
+    @Override
+    public PersonVisitDictionary getDictionary() {
+        return dictionary;
+    }
+
+    @Override
+    public Optional<Person> getPersonByNric(Nric nric) {
+        return Optional.ofNullable(persons.get(nric));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons.values())
+                .add("visits", visits.values())
+                .toString();
+    }
+}
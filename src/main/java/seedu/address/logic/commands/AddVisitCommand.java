@@ -44,7 +44,7 @@ public class AddVisitCommand extends Command {
     public static final String MESSAGE_DUPLICATE_VISIT = "This visit already exists in the MedLogger";
     public static final String MESSAGE_NO_PERSON_FOR_VISIT = "The person in this visit does not exist in the MedLogger";
 
-    private Visit visit;
+    private final Visit visit;
 
     /**
      * Creates an AddVisitCommand to add the specified {@code Visit}
@@ -66,22 +66,11 @@ public class AddVisitCommand extends Command {
 
         Person person = optionalPerson.get();
 
-        // Replace the visit's person with the actual one from model
-        this.visit = new Visit(
-                person,
-                visit.getDateTime(),
-                visit.getRemark(),
-                visit.getSymptom(),
-                visit.getDiagnosis(),
-                visit.getMedication(),
-                visit.getFollowUp()
-        );
-
         if (model.hasVisit(visit)) {
             throw new CommandException(MESSAGE_DUPLICATE_VISIT);
         }
 
         model.addVisit(visit);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(visit)));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(visit, person)));
     }
 }
@@ -0,0 +1,27 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.QueryCacheStatistics;
+
+/**
+ * Shows how many {@code listvisits} and {@code find} lookups were answered from the query caches.
+ */
+public class CacheStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "cachestats";
+
+    public static final String MESSAGE_SUCCESS = "Query caches:\n%1$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        String statistics = model.getQueryCacheStatistics().stream()
+                .map(QueryCacheStatistics::toString)
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, statistics));
+    }
+}
@@ -15,7 +15,7 @@ public class ClearVisitsCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.clearVisits();
+        model.batch(model::clearVisits);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
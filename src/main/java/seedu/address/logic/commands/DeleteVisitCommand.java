@@ -9,6 +9,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Visit;
 
 /**
@@ -37,8 +38,10 @@ public class DeleteVisitCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_VISIT_DISPLAYED_INDEX);
         }
         Visit visitToDelete = lastShownList.get(targetIndex.getZeroBased());
+        Person person = model.getPersonByNric(visitToDelete.getNric()).orElseThrow();
         model.deleteVisit(visitToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_VISIT_SUCCESS, Messages.format(visitToDelete)));
+        return new CommandResult(String.format(MESSAGE_DELETE_VISIT_SUCCESS,
+                Messages.format(visitToDelete, person)));
     }
 
     @Override
@@ -90,14 +90,9 @@ public class EditVisitCommand extends Command {
         }
 
         Visit visitToEdit = lastShownList.get(index.getZeroBased());
-        Person person = visitToEdit.getPerson();
-
-        if (editVisitDescriptor.getNric().isPresent()) {
-            if (model.getPersonByNric(editVisitDescriptor.getNric().get()).isEmpty()) {
-                throw new CommandException(MESSAGE_NO_PERSON_FOR_VISIT);
-            }
-            person = model.getPersonByNric(editVisitDescriptor.getNric().get()).get();
-        }
+        Nric nric = editVisitDescriptor.getNric().orElse(visitToEdit.getNric());
+        Person person = model.getPersonByNric(nric)
+                .orElseThrow(() -> new CommandException(MESSAGE_NO_PERSON_FOR_VISIT));
 
         Visit editedVisit = createEditedVisit(person, visitToEdit, editVisitDescriptor);
 
@@ -108,7 +103,7 @@ public class EditVisitCommand extends Command {
         model.setVisit(visitToEdit, editedVisit);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         model.updateFilteredVisitList(PREDICATE_SHOW_ALL_VISITS);
-        return new CommandResult(String.format(MESSAGE_EDIT_VISIT_SUCCESS, Messages.format(editedVisit)));
+        return new CommandResult(String.format(MESSAGE_EDIT_VISIT_SUCCESS, Messages.format(editedVisit, person)));
     }
 
     /**
@@ -3,11 +3,11 @@ package seedu.address.logic.commands;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.io.IOException;
-import java.nio.file.Path;
 
 import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.storage.JsonMedLoggerStorage;
 
 /**
  * Exports data to a file in CSV or JSON format.
@@ -43,11 +43,12 @@ public class ExportCommand extends Command {
         }
 
         // Initialize variables
-        Path sourcePath = model.getMedLoggerFilePath();
         String defaultName = DEFAULT_PREFIX + fileType.toLowerCase();
 
         try {
-            FileUtil.saveWithDialog(sourcePath, this.fileType, defaultName);
+            // Exported from the model, as the data file may be saved in binary or lag behind the model.
+            String content = JsonMedLoggerStorage.toJsonString(model.getMedLogger());
+            FileUtil.saveWithDialog(content, this.fileType, defaultName);
             return new CommandResult(fileType.equals(CSV_TYPE) ? MESSAGE_SUCCESS_CSV : MESSAGE_SUCCESS_JSON);
         } catch (IOException e) {
             throw new CommandException(String.format(e.getMessage()));
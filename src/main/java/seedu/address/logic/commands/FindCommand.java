@@ -2,6 +2,8 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
@@ -29,7 +31,11 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // Persons are matched through the name index of the model rather than by splitting their names. The index
+        // is looked up once until the persons change, and always gives their current names, so the list stays up to
+        // date as persons are added or edited.
+        List<String> keywords = predicate.getKeywords();
+        model.updateFilteredPersonList(person -> model.getNricsWithNameWords(keywords).contains(person.getNric()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
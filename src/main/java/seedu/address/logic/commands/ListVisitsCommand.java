@@ -3,14 +3,20 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import seedu.address.model.Model;
+import seedu.address.model.person.DateTime;
 import seedu.address.model.person.Diagnosis;
 import seedu.address.model.person.Medication;
 import seedu.address.model.person.Nric;
 import seedu.address.model.person.Symptom;
 import seedu.address.model.person.Visit;
+import seedu.address.model.person.VisitQuery;
+import seedu.address.model.person.VisitTextField;
 
 /**
  * Lists all visits in the Med Logger to the user.
@@ -79,37 +85,22 @@ public class ListVisitsCommand extends Command {
             predicate = predicate.and(visit -> visit.getNric().equals(nric));
         }
 
+        Map<VisitTextField, String> texts = new EnumMap<>(VisitTextField.class);
         if (symptom != null) {
-            predicate = predicate.and(visit ->
-                visit.getSymptom().value.toLowerCase().contains(symptom.toLowerCase()));
+            texts.put(VisitTextField.SYMPTOM, symptom.value);
         }
-
         if (diagnosis != null) {
-            predicate = predicate.and(visit ->
-                visit.getDiagnosis().value.toLowerCase().contains(diagnosis.toLowerCase()));
+            texts.put(VisitTextField.DIAGNOSIS, diagnosis.value);
         }
-
         if (medication != null) {
-            predicate = predicate.and(visit ->
-                visit.getMedication().value.toLowerCase().contains(medication.toLowerCase()));
-        }
-
-        if (isToday) {
-            LocalDate today = LocalDate.now();
-            predicate = predicate.and(visit ->
-                visit.getDateTime().toLocalDateTime().toLocalDate().isEqual(today));
-        } else {
-            if (fromDate != null) {
-                predicate = predicate.and(visit ->
-                    !visit.getDateTime().toLocalDateTime().toLocalDate().isBefore(fromDate));
-            }
-            if (toDate != null) {
-                predicate = predicate.and(visit ->
-                    !visit.getDateTime().toLocalDateTime().toLocalDate().isAfter(toDate));
-            }
+            texts.put(VisitTextField.MEDICATION, medication.value);
         }
 
-        model.updateFilteredVisitList(predicate);
+        LocalDate rangeStart = isToday ? LocalDate.now() : fromDate;
+        LocalDate rangeEnd = isToday ? rangeStart : toDate;
+        DateTime from = rangeStart == null ? null : DateTime.of(rangeStart.atStartOfDay());
+        DateTime to = rangeEnd == null ? null : DateTime.of(rangeEnd.atTime(LocalTime.of(23, 59)));
+        model.updateFilteredVisitList(new VisitQuery(from, to, texts), predicate);
 
         // Apply limit if provided
         if (limit != null) {
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.PagedListType;
+
+/**
+ * Shows the next page of a list that was limited with {@code l/LIMIT}.
+ * Without a list given, the list that was most recently limited is paged.
+ */
+public class NextPageCommand extends Command {
+
+    public static final String COMMAND_WORD = "next";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the next page of a list limited with "
+            + "l/LIMIT. Without a list, pages the list that was most recently limited.\n"
+            + "Parameters: [persons|visits]\n"
+            + "Example: " + COMMAND_WORD + " visits";
+
+    public static final String MESSAGE_SUCCESS = "Showing the next page.";
+
+    public static final String MESSAGE_NO_NEXT_PAGE = "There is no next page to show.";
+
+    private final PagedListType listType;
+
+    /**
+     * Creates a NextPageCommand to page the list that was most recently limited.
+     */
+    public NextPageCommand() {
+        this.listType = null;
+    }
+
+    /**
+     * Creates a NextPageCommand to page {@code listType}.
+     */
+    public NextPageCommand(PagedListType listType) {
+        requireNonNull(listType);
+        this.listType = listType;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        boolean hasShownPage = listType == null ? model.showNextPage() : model.showNextPage(listType);
+        if (!hasShownPage) {
+            throw new CommandException(MESSAGE_NO_NEXT_PAGE);
+        }
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NextPageCommand)) {
+            return false;
+        }
+
+        NextPageCommand otherNextPageCommand = (NextPageCommand) other;
+        return Objects.equals(listType, otherNextPageCommand.listType);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("listType", listType)
+                .toString();
+    }
+}
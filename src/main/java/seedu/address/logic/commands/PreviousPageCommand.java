@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.PagedListType;
+
+/**
+ * Shows the previous page of a list that was limited with {@code l/LIMIT}.
+ * Without a list given, the list that was most recently limited is paged.
+ */
+public class PreviousPageCommand extends Command {
+
+    public static final String COMMAND_WORD = "prev";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the previous page of a list limited with "
+            + "l/LIMIT. Without a list, pages the list that was most recently limited.\n"
+            + "Parameters: [persons|visits]\n"
+            + "Example: " + COMMAND_WORD + " visits";
+
+    public static final String MESSAGE_SUCCESS = "Showing the previous page.";
+
+    public static final String MESSAGE_NO_PREVIOUS_PAGE = "There is no previous page to show.";
+
+    private final PagedListType listType;
+
+    /**
+     * Creates a PreviousPageCommand to page the list that was most recently limited.
+     */
+    public PreviousPageCommand() {
+        this.listType = null;
+    }
+
+    /**
+     * Creates a PreviousPageCommand to page {@code listType}.
+     */
+    public PreviousPageCommand(PagedListType listType) {
+        requireNonNull(listType);
+        this.listType = listType;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        boolean hasShownPage = listType == null ? model.showPreviousPage() : model.showPreviousPage(listType);
+        if (!hasShownPage) {
+            throw new CommandException(MESSAGE_NO_PREVIOUS_PAGE);
+        }
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PreviousPageCommand)) {
+            return false;
+        }
+
+        PreviousPageCommand otherPreviousPageCommand = (PreviousPageCommand) other;
+        return Objects.equals(listType, otherPreviousPageCommand.listType);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("listType", listType)
+                .toString();
+    }
+}
@@ -3,37 +3,71 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Comparator;
+import java.util.Objects;
 
 import seedu.address.model.Model;
 import seedu.address.model.person.Visit;
 
 /**
- * Sorts the currently visible visit list by visit dateTime.
+ * Sorts the currently visible visit list by visit dateTime, optionally showing only the first visits.
  */
 public class SortVisitsCommand extends Command {
 
     public static final String COMMAND_WORD = "sortvisits";
     public static final String MESSAGE_SUCCESS_ASC = "Sorted visits by date and time (ascending).";
     public static final String MESSAGE_SUCCESS_DESC = "Sorted visits by date and time (descending).";
+    public static final String MESSAGE_LIMITED = "Showing the first %1$d visits.";
 
     private final boolean isDescending;
+    private final Integer limit;
 
     public SortVisitsCommand(boolean isDescending) {
+        this(isDescending, null);
+    }
+
+    /**
+     * Creates a SortVisitsCommand that shows only the first {@code limit} sorted visits,
+     * or all of them if {@code limit} is null.
+     */
+    public SortVisitsCommand(boolean isDescending, Integer limit) {
         this.isDescending = isDescending;
+        this.limit = limit;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        Comparator<Visit> comparator = Comparator.comparing((Visit v) -> v.getDateTime().toLocalDateTime());
+        Comparator<Visit> comparator = Comparator.comparingLong((Visit v) -> v.getDateTime().getEpochMinute());
         if (isDescending) {
             comparator = comparator.reversed();
         }
 
-        model.sortFilteredVisitList(comparator);
+        String message = isDescending ? MESSAGE_SUCCESS_DESC : MESSAGE_SUCCESS_ASC;
+        if (limit == null) {
+            model.sortFilteredVisitList(comparator);
+            return new CommandResult(message);
+        }
+
+        model.sortFilteredVisitList(comparator, limit);
+        return new CommandResult(message + " "
+                + String.format(MESSAGE_LIMITED, model.getFilteredVisitList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortVisitsCommand)) {
+            return false;
+        }
 
-        return new CommandResult(isDescending ? MESSAGE_SUCCESS_DESC : MESSAGE_SUCCESS_ASC);
+        SortVisitsCommand otherCommand = (SortVisitsCommand) other;
+        return isDescending == otherCommand.isDescending
+                && Objects.equals(limit, otherCommand.limit);
     }
 }
 
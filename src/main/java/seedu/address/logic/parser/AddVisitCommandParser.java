@@ -18,7 +18,6 @@ import seedu.address.model.person.Diagnosis;
 import seedu.address.model.person.FollowUp;
 import seedu.address.model.person.Medication;
 import seedu.address.model.person.Nric;
-import seedu.address.model.person.Person;
 import seedu.address.model.person.Remark;
 import seedu.address.model.person.Symptom;
 import seedu.address.model.person.Visit;
@@ -69,9 +68,7 @@ public class AddVisitCommandParser implements Parser<AddVisitCommand> {
         Medication medication = new Medication(argMultimap.getValue(PREFIX_MEDICATION).orElse(""));
         FollowUp followUp = new FollowUp(argMultimap.getValue(PREFIX_FOLLOWUP).orElse(""));
 
-        Person dummyPerson = Person.createDummyPerson(nric);
-
-        Visit visit = new Visit(dummyPerson, dateTime, remark, symptom, diagnosis, medication, followUp);
+        Visit visit = new Visit(nric, dateTime, remark, symptom, diagnosis, medication, followUp);
         return new AddVisitCommand(visit);
     }
 
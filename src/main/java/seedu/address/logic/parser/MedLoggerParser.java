@@ -10,6 +10,7 @@ import java.util.regex.Pattern;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddPersonCommand;
 import seedu.address.logic.commands.AddVisitCommand;
+import seedu.address.logic.commands.CacheStatsCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClearVisitsCommand;
 import seedu.address.logic.commands.Command;
@@ -23,6 +24,8 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListVisitsCommand;
+import seedu.address.logic.commands.NextPageCommand;
+import seedu.address.logic.commands.PreviousPageCommand;
 import seedu.address.logic.commands.RemarkCommand;
 import seedu.address.logic.commands.SortVisitsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -109,6 +112,15 @@ public class MedLoggerParser {
         case SortVisitsCommand.COMMAND_WORD:
             return new SortVisitsCommandParser().parse(arguments);
 
+        case CacheStatsCommand.COMMAND_WORD:
+            return new CacheStatsCommand();
+
+        case NextPageCommand.COMMAND_WORD:
+            return new NextPageCommandParser().parse(arguments);
+
+        case PreviousPageCommand.COMMAND_WORD:
+            return new PreviousPageCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
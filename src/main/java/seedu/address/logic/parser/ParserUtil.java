@@ -9,6 +9,7 @@ import java.util.Set;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.PagedListType;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.DateTime;
 import seedu.address.model.person.Diagnosis;
@@ -32,6 +33,8 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_FILE_TYPE = "The file type is not valid, choose either csv or json";
 
+    public static final String MESSAGE_INVALID_PAGED_LIST = "The list is not valid, choose either persons or visits";
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -192,6 +195,24 @@ public class ParserUtil {
         return words[0];
     }
 
+    /**
+     * Parses {@code list}, either {@code persons} or {@code visits} in any case, into a {@code PagedListType}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if {@code list} is neither.
+     */
+    public static PagedListType parsePagedListType(String list) throws ParseException {
+        requireNonNull(list);
+        switch (list.trim().toLowerCase()) {
+        case "persons":
+            return PagedListType.PERSONS;
+        case "visits":
+            return PagedListType.VISITS;
+        default:
+            throw new ParseException(MESSAGE_INVALID_PAGED_LIST);
+        }
+    }
+
     /**
      * Parses a {@code String symptom} into a {@code Symptom}.
      * Similar to Remark.
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.PreviousPageCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new PreviousPageCommand object
+ */
+public class PreviousPageCommandParser implements Parser<PreviousPageCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PreviousPageCommand
+     * and returns a PreviousPageCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PreviousPageCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            return new PreviousPageCommand();
+        }
+        try {
+            return new PreviousPageCommand(ParserUtil.parsePagedListType(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, PreviousPageCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+
 import seedu.address.logic.commands.SortVisitsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -10,19 +12,40 @@ public class SortVisitsCommandParser implements Parser<SortVisitsCommand> {
 
     private static final String ASC = "";
     private static final String DESC = "desc";
+    private static final String MESSAGE_USAGE = "Invalid sort direction. Use either:\n"
+            + "  sortvisits [l/LIMIT]        (ascending)\n"
+            + "  sortvisits desc [l/LIMIT]   (descending)";
+    private static final String MESSAGE_LIMIT_CONSTRAINTS = "Limit must be non-negative integer";
 
     @Override
     public SortVisitsCommand parse(String args) throws ParseException {
-        String trimmed = args.trim().toLowerCase();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LIMIT);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_LIMIT);
+
+        String direction = argMultimap.getPreamble().toLowerCase();
+        Integer limit = null;
+        if (argMultimap.getValue(PREFIX_LIMIT).isPresent()) {
+            limit = parseLimit(argMultimap.getValue(PREFIX_LIMIT).get());
+        }
 
-        if (trimmed.equals(ASC)) {
-            return new SortVisitsCommand(false); // Ascending
-        } else if (trimmed.equals(DESC)) {
-            return new SortVisitsCommand(true); // Descending
+        if (direction.equals(ASC)) {
+            return new SortVisitsCommand(false, limit); // Ascending
+        } else if (direction.equals(DESC)) {
+            return new SortVisitsCommand(true, limit); // Descending
         } else {
-            throw new ParseException("Invalid sort direction. Use either:\n"
-                + "  sortvisits        (ascending)\n"
-                + "  sortvisits desc   (descending)");
+            throw new ParseException(MESSAGE_USAGE);
+        }
+    }
+
+    private static int parseLimit(String limitInput) throws ParseException {
+        try {
+            int limit = Integer.parseInt(limitInput);
+            if (limit < 0) {
+                throw new ParseException(MESSAGE_LIMIT_CONSTRAINTS);
+            }
+            return limit;
+        } catch (NumberFormatException e) {
+            throw new ParseException(MESSAGE_LIMIT_CONSTRAINTS, e);
         }
     }
 }
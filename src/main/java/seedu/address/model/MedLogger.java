@@ -3,8 +3,16 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -14,6 +22,10 @@ import seedu.address.model.person.PersonVisitDictionary;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.UniqueVisitList;
 import seedu.address.model.person.Visit;
+import seedu.address.model.person.VisitQuery;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.DuplicateVisitException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Wraps all data at the address-book level
@@ -23,9 +35,20 @@ public class MedLogger implements ReadOnlyMedLogger {
 
     private static final String MESSAGE_NO_PERSON_FOR_VISIT = "There is no person who have a matching profile to "
             + "this visit in the person list";
+    private static final int QUERY_CACHE_CAPACITY = 32;
+    /** The order of the visits returned by {@link #getVisitsMatching(VisitQuery)}. */
+    private static final Comparator<Visit> VISIT_TIME_ORDER = Comparator.comparing(Visit::getDateTime)
+            .thenComparingLong(Visit::getId);
     private final UniquePersonList persons;
     private final UniqueVisitList visits;
     private final PersonVisitDictionary dictionary;
+    private final List<Consumer<MedLoggerChange>> listeners = new ArrayList<>();
+    private final List<MedLoggerChange> pendingChanges = new ArrayList<>();
+    private final QueryCache<VisitQuery, List<Visit>> visitQueryCache =
+            new QueryCache<>("listvisits", QUERY_CACHE_CAPACITY);
+    private final QueryCache<Set<String>, Set<Nric>> nameWordsCache = new QueryCache<>("find", QUERY_CACHE_CAPACITY);
+    private int batchDepth;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -42,6 +65,23 @@ public class MedLogger implements ReadOnlyMedLogger {
 
     public MedLogger() {}
 
+    /**
+     * Creates a MedLogger containing {@code persons} and {@code visits}.
+     * The person list, visit list and dictionary are each built in a single pass, which makes this
+     * much faster than adding persons and visits one at a time when loading a large data set.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains persons with the same identity.
+     * @throws DuplicateVisitException if {@code visits} contains duplicate visits.
+     * @throws PersonNotFoundException if a visit belongs to a person not in {@code persons}.
+     */
+    public MedLogger(List<Person> persons, List<Visit> visits) {
+        this();
+        requireAllNonNull(persons, visits);
+        this.visits.setVisits(visits);
+        dictionary.setDictionary(persons, getVisitList());
+        this.persons.setPersons(persons);
+    }
+
     /**
      * Creates an MedLogger using the Persons in the {@code toBeCopied}
      */
@@ -57,6 +97,7 @@ public class MedLogger implements ReadOnlyMedLogger {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        nameWordsCache.invalidate();
         this.persons.setPersons(persons);
     }
 
@@ -66,6 +107,7 @@ public class MedLogger implements ReadOnlyMedLogger {
      */
     public void setVisits(List<Visit> visits) {
         this.visits.setVisits(visits);
+        visitQueryCache.invalidate();
     }
 
     /**
@@ -82,7 +124,100 @@ public class MedLogger implements ReadOnlyMedLogger {
         requireNonNull(newData);
         setPersons(newData.getPersonList());
         setVisits(newData.getVisitList());
-        setDictionary(newData.getDictionary());
+        // Rebuilt rather than copied, so that it holds the visits with the IDs given by the visit list.
+        dictionary.setDictionary(getPersonList(), getVisitList());
+        notifyListeners(MedLoggerChange.reset(newData));
+    }
+
+    /**
+     * Adds a listener that is notified of every change made to this {@code MedLogger} through its
+     * person-level and visit-level operations, and through {@link #resetData(ReadOnlyMedLogger)}.
+     * Listeners are not copied to other {@code MedLogger}s.
+     */
+    public void addListener(Consumer<MedLoggerChange> listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns the number of changes made to this {@code MedLogger} since it was created.
+     * The version changes whenever a change is reported to the listeners, and never otherwise.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Runs {@code changes}, which change this {@code MedLogger}, as a batch.
+     * Each of the person and visit lists reports all of its changes in the batch as a single change once
+     * {@code changes} is done, and the listeners of this {@code MedLogger} are only then notified of the changes,
+     * in the order they were made. Batches may be nested, in which case this happens when the outermost one is done.
+     * If {@code changes} throws, the changes it made before throwing are kept, and reported as usual.
+     */
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        batchDepth++;
+        try {
+            persons.batch(() -> visits.batch(changes));
+        } finally {
+            batchDepth--;
+            if (batchDepth == 0) {
+                List<MedLoggerChange> changesToReport = new ArrayList<>(pendingChanges);
+                pendingChanges.clear();
+                changesToReport.forEach(this::notifyListeners);
+            }
+        }
+    }
+
+    private void notifyListeners(MedLoggerChange change) {
+        // Invalidated as soon as the change is made, even if it is only reported at the end of a batch.
+        invalidateQueryCaches(change);
+        if (batchDepth > 0) {
+            pendingChanges.add(change);
+            return;
+        }
+        version++;
+        for (Consumer<MedLoggerChange> listener : listeners) {
+            listener.accept(change);
+        }
+    }
+
+    /**
+     * Invalidates the visit query cache if {@code change} can affect its results.
+     * The name cache is instead invalidated just before the persons change, as lists built on the persons may look
+     * names up as soon as they are told of the change, before it is reported here.
+     */
+    private void invalidateQueryCaches(MedLoggerChange change) {
+        switch (change.getType()) {
+        case ADD_PERSON:
+            break;
+        case SET_PERSON:
+            if (!change.getTargetPerson().getNric().equals(change.getPerson().getNric())) {
+                // The visits of the person are replaced by visits with the new NRIC.
+                visitQueryCache.invalidate();
+            }
+            break;
+        case REMOVE_PERSON:
+        case RESET:
+            visitQueryCache.invalidate();
+            break;
+        case ADD_VISIT:
+        case SET_VISIT:
+        case REMOVE_VISIT:
+        case CLEAR_VISITS:
+            visitQueryCache.invalidate();
+            break;
+        default:
+            throw new AssertionError("Unknown change type: " + change.getType());
+        }
+    }
+
+    /**
+     * Returns the hit and miss counts of the caches of {@link #getVisitsMatching(VisitQuery)} and
+     * {@link #getNricsWithNameWords(Collection)}.
+     */
+    public List<QueryCacheStatistics> getQueryCacheStatistics() {
+        return List.of(visitQueryCache.getStatistics(), nameWordsCache.getStatistics());
     }
 
     /**
@@ -94,24 +229,54 @@ public class MedLogger implements ReadOnlyMedLogger {
     }
 
     /**
-     * Adds a visit to the list of visits.
+     * Returns the visits matching {@code query}, from earliest to latest, as an unmodifiable list.
+     * The visits matching a query are cached until the visits change.
+     */
+    public List<Visit> getVisitsMatching(VisitQuery query) {
+        requireNonNull(query);
+        return visitQueryCache.get(query, q -> Collections.unmodifiableList(q.getNric() == null
+                ? visits.getVisitsMatching(q)
+                : getPersonVisitsMatching(q)));
+    }
+
+    /**
+     * Returns the visits matching {@code query}, which is limited to one person, from earliest to latest.
+     * Only the visits of that person are looked at, through the dictionary.
+     */
+    private List<Visit> getPersonVisitsMatching(VisitQuery query) {
+        List<Visit> matchingVisits = new ArrayList<>();
+        for (Visit visit : dictionary.getVisitsForNric(query.getNric())) {
+            if (query.matches(visit)) {
+                matchingVisits.add(visit);
+            }
+        }
+        // The dictionary orders visits at the same time by their details rather than their IDs.
+        matchingVisits.sort(VISIT_TIME_ORDER);
+        return matchingVisits;
+    }
+
+    /**
+     * Adds a visit to the list of visits, giving it the next visit ID if it does not have one.
      * The visit must not already exist in the list.
      */
     public void addVisit(Visit visit) {
         requireNonNull(visit);
-        this.visits.add(visit);
-        this.dictionary.addVisit(visit);
+        Visit stored = this.visits.add(visit);
+        this.dictionary.addVisit(stored);
+        notifyListeners(MedLoggerChange.addVisit(stored));
     }
 
     /**
      * Replaces the given visit {@code target} in the list with {@code editedVisit}.
      * {@code target} must exist in the Med Logger.
      * The {@code editedVisit} must not be the same as another existing visit in the Med Logger.
+     * The edited visit keeps the ID of {@code target}.
      */
     public void setVisit(Visit target, Visit editedVisit) {
-        requireNonNull(editedVisit);
-        visits.setVisit(target, editedVisit);
-        dictionary.setVisit(target, editedVisit);
+        requireAllNonNull(target, editedVisit);
+        Visit stored = visits.setVisit(target, editedVisit);
+        dictionary.setVisit(target, stored);
+        notifyListeners(MedLoggerChange.setVisit(target, stored));
     }
 
     /**
@@ -119,18 +284,18 @@ public class MedLogger implements ReadOnlyMedLogger {
      * {@code key} must exist in the Med Logger.
      */
     public void removeVisit(Visit target) {
-        visits.remove(target);
-        dictionary.removeVisit(target);
+        Visit stored = visits.remove(target);
+        dictionary.removeVisit(stored);
+        notifyListeners(MedLoggerChange.removeVisit(stored));
     }
 
     /**
-     * Remove all visits from this {@code MedLogger}.
+     * Remove all visits from this {@code MedLogger}, as a single change to the visit list.
      */
     public void clearVisits() {
-        List<Visit> copy = List.copyOf(this.getVisitList());
-        for (Visit visit: copy) {
-            this.removeVisit(visit);
-        }
+        visits.clear();
+        dictionary.clearVisits();
+        notifyListeners(MedLoggerChange.clearVisits());
     }
 
     //// person-level operations
@@ -148,8 +313,10 @@ public class MedLogger implements ReadOnlyMedLogger {
      * The person must not already exist in the Med Logger.
      */
     public void addPerson(Person p) {
+        nameWordsCache.invalidate();
         persons.add(p);
         dictionary.addPerson(p);
+        notifyListeners(MedLoggerChange.addPerson(p));
     }
 
     /**
@@ -159,23 +326,36 @@ public class MedLogger implements ReadOnlyMedLogger {
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
+        nameWordsCache.invalidate();
         persons.setPerson(target, editedPerson);
-        for (Visit visit : dictionary.getVisitsForPerson(target)) {
-            visits.setVisit(visit, visit.withPerson(editedPerson));
+        if (target.getNric().equals(editedPerson.getNric())) {
+            // Visits only refer to the person by NRIC, so they are unaffected.
+            dictionary.setPerson(target, editedPerson);
+        } else {
+            // The visits keep their order when moved to the new NRIC.
+            List<Visit> targetVisits = List.copyOf(dictionary.getVisitsForPerson(target));
+            dictionary.setPerson(target, editedPerson);
+            Iterator<Visit> editedVisits = dictionary.getVisitsForPerson(editedPerson).iterator();
+            visits.batch(() -> {
+                for (Visit targetVisit : targetVisits) {
+                    visits.setVisit(targetVisit, editedVisits.next());
+                }
+            });
         }
-        dictionary.setPerson(target, editedPerson);
+        notifyListeners(MedLoggerChange.setPerson(target, editedPerson));
     }
 
     /**
-     * Removes {@code key} from this {@code MedLogger}.
+     * Removes {@code key} from this {@code MedLogger}, together with their visits.
+     * The visits are removed as a single change to the visit list.
      * {@code key} must exist in the Med Logger.
      */
     public void removePerson(Person key) {
+        nameWordsCache.invalidate();
         persons.remove(key);
-        for (Visit visit : dictionary.getVisitsForPerson(key)) {
-            visits.remove(visit);
-        }
+        visits.removeAll(dictionary.getVisitsForPerson(key));
         dictionary.removePerson(key);
+        notifyListeners(MedLoggerChange.removePerson(key));
     }
 
     //// util methods
@@ -228,7 +408,18 @@ public class MedLogger implements ReadOnlyMedLogger {
      * If a {@code Person} is found, it is returned wrapped in an
      * {@code Optional}; otherwise, an empty {@code Optional} is returned.
      */
+    @Override
     public Optional<Person> getPersonByNric(Nric nric) {
         return persons.getPersonByNric(nric);
     }
+
+    /**
+     * Returns the NRICs of the persons whose name contains any of {@code words} as a full word, ignoring case,
+     * as an unmodifiable set. The NRICs matching the same words are cached until the persons change.
+     */
+    public Set<Nric> getNricsWithNameWords(Collection<String> words) {
+        requireNonNull(words);
+        Set<String> lowerCaseWords = words.stream().map(String::toLowerCase).collect(Collectors.toSet());
+        return nameWordsCache.get(lowerCaseWords, w -> Collections.unmodifiableSet(persons.getNricsWithNameWords(w)));
+    }
 }
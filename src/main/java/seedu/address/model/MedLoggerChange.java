@@ -0,0 +1,205 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Visit;
+
+/**
+ * Describes a single mutation made to a {@code MedLogger}.
+ * A {@code MedLogger} reports its changes to its listeners in the order they are made, so applying the same
+ * changes in order to a copy of its earlier data with {@link #applyTo(MedLogger)} reproduces its current data.
+ */
+public class MedLoggerChange {
+
+    /**
+     * The kinds of mutation a {@code MedLogger} supports.
+     */
+    public enum Type {
+        ADD_PERSON, SET_PERSON, REMOVE_PERSON, ADD_VISIT, SET_VISIT, REMOVE_VISIT, CLEAR_VISITS, RESET
+    }
+
+    private final Type type;
+    private final Person targetPerson;
+    private final Person person;
+    private final Visit targetVisit;
+    private final Visit visit;
+    private final ReadOnlyMedLogger newData;
+
+    private MedLoggerChange(Type type, Person targetPerson, Person person, Visit targetVisit, Visit visit,
+            ReadOnlyMedLogger newData) {
+        this.type = type;
+        this.targetPerson = targetPerson;
+        this.person = person;
+        this.targetVisit = targetVisit;
+        this.visit = visit;
+        this.newData = newData;
+    }
+
+    public static MedLoggerChange addPerson(Person person) {
+        requireNonNull(person);
+        return new MedLoggerChange(Type.ADD_PERSON, null, person, null, null, null);
+    }
+
+    /**
+     * Returns a change that replaces {@code target} with {@code editedPerson}, together with their visits.
+     */
+    public static MedLoggerChange setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        return new MedLoggerChange(Type.SET_PERSON, target, editedPerson, null, null, null);
+    }
+
+    /**
+     * Returns a change that removes {@code target}, together with their visits.
+     */
+    public static MedLoggerChange removePerson(Person target) {
+        requireNonNull(target);
+        return new MedLoggerChange(Type.REMOVE_PERSON, target, null, null, null, null);
+    }
+
+    public static MedLoggerChange addVisit(Visit visit) {
+        requireNonNull(visit);
+        return new MedLoggerChange(Type.ADD_VISIT, null, null, null, visit, null);
+    }
+
+    /**
+     * Returns a change that replaces the visit {@code target} with {@code editedVisit}.
+     */
+    public static MedLoggerChange setVisit(Visit target, Visit editedVisit) {
+        requireAllNonNull(target, editedVisit);
+        return new MedLoggerChange(Type.SET_VISIT, null, null, target, editedVisit, null);
+    }
+
+    public static MedLoggerChange removeVisit(Visit target) {
+        requireNonNull(target);
+        return new MedLoggerChange(Type.REMOVE_VISIT, null, null, target, null, null);
+    }
+
+    public static MedLoggerChange clearVisits() {
+        return new MedLoggerChange(Type.CLEAR_VISITS, null, null, null, null, null);
+    }
+
+    /**
+     * Returns a change that replaces all data with {@code newData}.
+     */
+    public static MedLoggerChange reset(ReadOnlyMedLogger newData) {
+        requireNonNull(newData);
+        return new MedLoggerChange(Type.RESET, null, null, null, null, newData);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the person being edited or removed, or null if this change does not target a person.
+     */
+    public Person getTargetPerson() {
+        return targetPerson;
+    }
+
+    /**
+     * Returns the person being added, or the edited person, or null if this change does not add a person.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the visit being edited or removed, or null if this change does not target a visit.
+     */
+    public Visit getTargetVisit() {
+        return targetVisit;
+    }
+
+    /**
+     * Returns the visit being added, or the edited visit, or null if this change does not add a visit.
+     */
+    public Visit getVisit() {
+        return visit;
+    }
+
+    /**
+     * Returns the data that replaces all existing data, or null if this change is not a reset.
+     */
+    public ReadOnlyMedLogger getNewData() {
+        return newData;
+    }
+
+    /**
+     * Makes this change to {@code medLogger}.
+     * The change is reported to the listeners of {@code medLogger} like any other mutation.
+     */
+    public void applyTo(MedLogger medLogger) {
+        requireNonNull(medLogger);
+        switch (type) {
+        case ADD_PERSON:
+            medLogger.addPerson(person);
+            break;
+        case SET_PERSON:
+            medLogger.setPerson(targetPerson, person);
+            break;
+        case REMOVE_PERSON:
+            medLogger.removePerson(targetPerson);
+            break;
+        case ADD_VISIT:
+            medLogger.addVisit(visit);
+            break;
+        case SET_VISIT:
+            medLogger.setVisit(targetVisit, visit);
+            break;
+        case REMOVE_VISIT:
+            medLogger.removeVisit(targetVisit);
+            break;
+        case CLEAR_VISITS:
+            medLogger.clearVisits();
+            break;
+        case RESET:
+            medLogger.resetData(newData);
+            break;
+        default:
+            throw new AssertionError("Unknown change type: " + type);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MedLoggerChange)) {
+            return false;
+        }
+
+        MedLoggerChange otherChange = (MedLoggerChange) other;
+        return type == otherChange.type
+                && Objects.equals(targetPerson, otherChange.targetPerson)
+                && Objects.equals(person, otherChange.person)
+                && Objects.equals(targetVisit, otherChange.targetVisit)
+                && Objects.equals(visit, otherChange.visit)
+                && Objects.equals(newData, otherChange.newData);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, targetPerson == null ? null : targetPerson.getNric(),
+                person == null ? null : person.getNric(), targetVisit, visit);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("targetPerson", targetPerson)
+                .add("person", person)
+                .add("targetVisit", targetVisit)
+                .add("visit", visit)
+                .toString();
+    }
+}
@@ -0,0 +1,12 @@
+package seedu.address.model;
+
+/**
+ * The formats the MedLogger data file can be saved in.
+ * Changing the format converts the existing data file the next time the data is saved.
+ */
+public enum MedLoggerFileFormat {
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON,
+    /** A compact binary format, which is faster to load and save than JSON. */
+    BINARY
+}
@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonVisitDictionary;
+import seedu.address.model.person.Visit;
+
+/**
+ * An immutable copy of the data in a {@code ReadOnlyMedLogger}.
+ * A snapshot can be read from other threads while the data it was taken from keeps changing.
+ * Taking a snapshot only copies the person and visit lists; its dictionary and NRIC index are built the first
+ * time they are needed.
+ */
+public class MedLoggerSnapshot implements ReadOnlyMedLogger {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Visit> visits;
+    private PersonVisitDictionary dictionary;
+    private Map<Nric, Person> personsByNric;
+
+    /**
+     * Creates a snapshot of the current data in {@code medLogger}.
+     */
+    public MedLoggerSnapshot(ReadOnlyMedLogger medLogger) {
+        requireNonNull(medLogger);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(medLogger.getPersonList()));
+        visits = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(medLogger.getVisitList()));
+    }
+
+    /**
+     * Creates a snapshot of {@code persons} and {@code visits}, which must fit together as they would in a
+     * {@code MedLogger}. They are not checked.
+     */
+    public MedLoggerSnapshot(List<Person> persons, List<Visit> visits) {
+        requireAllNonNull(persons, visits);
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        this.visits = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(visits));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Visit> getVisitList() {
+        return visits;
+    }
+
+    @Override
+    public synchronized PersonVisitDictionary getDictionary() {
+        if (dictionary == null) {
+            dictionary = new PersonVisitDictionary();
+            dictionary.setDictionary(persons, visits);
+        }
+        return dictionary;
+    }
+
+    @Override
+    public synchronized Optional<Person> getPersonByNric(Nric nric) {
+        if (personsByNric == null) {
+            personsByNric = new HashMap<>();
+            for (Person person : persons) {
+                personsByNric.put(person.getNric(), person);
+            }
+        }
+        return Optional.ofNullable(personsByNric.get(nric));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("visits", visits)
+                .toString();
+    }
+}
@@ -1,8 +1,12 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,6 +14,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Visit;
+import seedu.address.model.person.VisitQuery;
 
 /**
  * The API of the Model component.
@@ -59,6 +64,23 @@ public interface Model {
      */
     void clearVisits();
 
+    /**
+     * Runs {@code changes}, which change the Med Logger through this model, as a batch.
+     * The person and visit lists, and the filtered and sorted lists built on them, are updated once for the whole
+     * batch, and the changes are only reported for saving once {@code changes} is done.
+     */
+    void batch(Runnable changes);
+
+    /**
+     * Adds a listener that is notified of every change made to the Med Logger data.
+     */
+    void addMedLoggerListener(Consumer<MedLoggerChange> listener);
+
+    /**
+     * Returns the version of the Med Logger data, which changes whenever the data is changed.
+     */
+    long getMedLoggerVersion();
+
 
     /** Returns the MedLogger */
     ReadOnlyMedLogger getMedLogger();
@@ -75,6 +97,18 @@ public interface Model {
      */
     Optional<Person> getPersonByNric(Nric nric);
 
+    /**
+     * Returns the NRICs of the persons whose name contains any of {@code words} as a full word, ignoring case.
+     * The words are looked up in an index of name words, so names are not split again. The result for the same
+     * words is cached until the persons change, and is already up to date when lists of persons are told of a change.
+     */
+    Set<Nric> getNricsWithNameWords(Collection<String> words);
+
+    /**
+     * Returns the hit and miss counts of the caches of visit and name lookups.
+     */
+    List<QueryCacheStatistics> getQueryCacheStatistics();
+
     /**
      * Returns true if a vist with the same details as {@code vist} exists in the Med Logger.
      */
@@ -109,11 +143,11 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /** Returns an unmodifiable view of the shown page of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
-     * Returns an unmodifiable view of the filtered visit list
+     * Returns an unmodifiable view of the shown page of the filtered and sorted visit list
      */
     ObservableList<Visit> getFilteredVisitList();
 
@@ -129,20 +163,61 @@ public interface Model {
      */
     void updateFilteredVisitList(Predicate<Visit> predicate);
 
+    /**
+     * Updates the filtered visit list to the visits that match {@code query} and satisfy {@code predicate}.
+     * The visits matching {@code query} are looked up in the time and text indexes of the Med Logger, so visits that
+     * do not match it are not tested against {@code predicate}.
+     * @throws NullPointerException if {@code query} or {@code predicate} is null.
+     */
+    void updateFilteredVisitList(VisitQuery query, Predicate<Visit> predicate);
+
     void sortFilteredVisitList(Comparator<Visit> comparator);
 
     /**
-     * Updates the filter of the filtered person list up to the first n entries.
+     * Shows only the first n visits of the filtered visit list in the order of {@code comparator}.
+     * Only those n visits are kept sorted, and they are kept up to date as visits are added and removed.
+     * @param n number of visits to show
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void sortFilteredVisitList(Comparator<Visit> comparator, int n);
+
+    /**
+     * Shows the first page of the filtered person list, with pages of n entries.
      * @param n number of entries to show
      */
     void updateSubFilteredPersonList(int n);
 
     /**
-     * Updates the filter of the filtered visit list up to the first n entries.
+     * Shows the first page of the filtered and sorted visit list, with pages of n entries.
      * @param n number of entries to show
      */
     void updateSubFilteredVisitList(int n);
 
+    /**
+     * Shows the next page of the list that was most recently limited to pages, if it is still shown a page at a
+     * time, or else of the other list.
+     * @return true if a list moved to another page.
+     */
+    boolean showNextPage();
+
+    /**
+     * Shows the next page of {@code listType}, if it is shown a page at a time.
+     * @return true if the list moved to another page.
+     */
+    boolean showNextPage(PagedListType listType);
+
+    /**
+     * Shows the previous page of the same list as {@link #showNextPage()}.
+     * @return true if a list moved to another page.
+     */
+    boolean showPreviousPage();
+
+    /**
+     * Shows the previous page of {@code listType}, if it is shown a page at a time.
+     * @return true if the list moved to another page.
+     */
+    boolean showPreviousPage(PagedListType listType);
+
     ObservableList<Visit> getSortedVisitList();
 
 
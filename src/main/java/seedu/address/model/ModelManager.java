@@ -4,12 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
@@ -19,6 +22,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Visit;
+import seedu.address.model.person.VisitQuery;
 
 /**
  * Represents the in-memory model of the Med Logger data.
@@ -29,8 +33,13 @@ public class ModelManager implements Model {
     private final MedLogger medLogger;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final PagedList<Person> pagedPersons;
+    private final VisitQueryList queriedVisits;
     private final FilteredList<Visit> filteredVisits;
+    private final TopVisitList topVisits;
     private final SortedList<Visit> sortedVisits;
+    private final PagedList<Visit> pagedVisits;
+    private PagedListType lastPagedList;
 
 
     /**
@@ -44,8 +53,12 @@ public class ModelManager implements Model {
         this.medLogger = new MedLogger(medLogger);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.medLogger.getPersonList());
-        filteredVisits = new FilteredList<>(this.medLogger.getVisitList());
-        sortedVisits = new SortedList<>(filteredVisits);
+        pagedPersons = new PagedList<>(filteredPersons);
+        queriedVisits = new VisitQueryList(this.medLogger);
+        filteredVisits = new FilteredList<>(queriedVisits.asUnmodifiableObservableList());
+        topVisits = new TopVisitList(filteredVisits);
+        sortedVisits = new SortedList<>(topVisits.asUnmodifiableObservableList());
+        pagedVisits = new PagedList<>(sortedVisits);
     }
 
     public ModelManager() {
@@ -99,6 +112,22 @@ public class ModelManager implements Model {
         this.medLogger.clearVisits();
     }
 
+    @Override
+    public void batch(Runnable changes) {
+        medLogger.batch(changes);
+    }
+
+    @Override
+    public void addMedLoggerListener(Consumer<MedLoggerChange> listener) {
+        requireNonNull(listener);
+        medLogger.addListener(listener);
+    }
+
+    @Override
+    public long getMedLoggerVersion() {
+        return medLogger.getVersion();
+    }
+
     @Override
     public ReadOnlyMedLogger getMedLogger() {
         return medLogger;
@@ -121,6 +150,17 @@ public class ModelManager implements Model {
         return medLogger.getPersonByNric(nric);
     }
 
+    @Override
+    public Set<Nric> getNricsWithNameWords(Collection<String> words) {
+        requireNonNull(words);
+        return medLogger.getNricsWithNameWords(words);
+    }
+
+    @Override
+    public List<QueryCacheStatistics> getQueryCacheStatistics() {
+        return medLogger.getQueryCacheStatistics();
+    }
+
     @Override
     public void addVisit(Visit visit) {
         requireNonNull(visit);
@@ -165,34 +205,49 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return pagedPersons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the page of the filtered and sorted visit list that is shown, which is the same list as
+     * {@link #getSortedVisitList()}, so that visit indexes refer to the visits as shown.
+     */
     @Override
     public ObservableList<Visit> getFilteredVisitList() {
-        return filteredVisits;
+        return pagedVisits.asUnmodifiableObservableList();
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        pagedPersons.showAll();
     }
 
     @Override
     public void updateFilteredVisitList(Predicate<Visit> predicate) {
         requireNonNull(predicate);
+        // Every visit is shown again first, so that the limited lists do not follow the change only to be reset.
+        topVisits.showAll();
+        pagedVisits.showAll();
+        queriedVisits.setQuery(VisitQuery.ALL);
         filteredVisits.setPredicate(predicate);
     }
 
     @Override
-    public void updateSubFilteredPersonList(int n) {
-        List<Person> limitedList = filteredPersons.getSource().stream()
-                .filter(PREDICATE_SHOW_ALL_PERSONS)
-                .limit(n)
-                .collect(Collectors.toList());
+    public void updateFilteredVisitList(VisitQuery query, Predicate<Visit> predicate) {
+        requireAllNonNull(query, predicate);
+        topVisits.showAll();
+        pagedVisits.showAll();
+        // Narrowed first, so that the predicate is only tested on the visits matching the query.
+        queriedVisits.setQuery(query);
+        filteredVisits.setPredicate(predicate);
+    }
 
-        filteredPersons.setPredicate(limitedList::contains);
+    @Override
+    public void updateSubFilteredPersonList(int n) {
+        pagedPersons.showFirstPage(n);
+        lastPagedList = PagedListType.PERSONS;
     }
 
     /**
@@ -203,17 +258,63 @@ public class ModelManager implements Model {
      */
     @Override
     public void sortFilteredVisitList(Comparator<Visit> comparator) {
+        topVisits.showAll();
+        sortedVisits.setComparator(comparator);
+    }
+
+    @Override
+    public void sortFilteredVisitList(Comparator<Visit> comparator, int n) {
+        requireNonNull(comparator);
+        pagedVisits.showAll();
+        // Narrowed first, so that only the n visits shown are sorted.
+        topVisits.showTop(comparator, n);
         sortedVisits.setComparator(comparator);
     }
 
 
     @Override
     public void updateSubFilteredVisitList(int n) {
-        List<Visit> limitedList = filteredVisits.getSource().stream()
-                .limit(n)
-                .collect(Collectors.toList());
+        pagedVisits.showFirstPage(n);
+        lastPagedList = PagedListType.VISITS;
+    }
+
+    @Override
+    public boolean showNextPage() {
+        return getListToPage().map(this::showNextPage).orElse(false);
+    }
+
+    @Override
+    public boolean showNextPage(PagedListType listType) {
+        requireNonNull(listType);
+        return getPagedList(listType).showNextPage();
+    }
+
+    @Override
+    public boolean showPreviousPage() {
+        return getListToPage().map(this::showPreviousPage).orElse(false);
+    }
+
+    @Override
+    public boolean showPreviousPage(PagedListType listType) {
+        requireNonNull(listType);
+        return getPagedList(listType).showPreviousPage();
+    }
+
+    /**
+     * Returns the list that was most recently limited to pages, if it is still shown a page at a time, or else the
+     * other list if that one is.
+     */
+    private Optional<PagedListType> getListToPage() {
+        if (lastPagedList != null && getPagedList(lastPagedList).isPaged()) {
+            return Optional.of(lastPagedList);
+        }
+        return Arrays.stream(PagedListType.values())
+                .filter(listType -> getPagedList(listType).isPaged())
+                .findFirst();
+    }
 
-        filteredVisits.setPredicate(limitedList::contains);
+    private PagedList<?> getPagedList(PagedListType listType) {
+        return listType == PagedListType.PERSONS ? pagedPersons : pagedVisits;
     }
 
     @Override
@@ -230,14 +331,14 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return medLogger.equals(otherModelManager.medLogger)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
-                && filteredVisits.equals(otherModelManager.filteredVisits);
+                && getFilteredPersonList().equals(otherModelManager.getFilteredPersonList())
+                && getFilteredVisitList().equals(otherModelManager.getFilteredVisitList());
 
     }
 
     @Override
     public ObservableList<Visit> getSortedVisitList() {
-        return sortedVisits;
+        return pagedVisits.asUnmodifiableObservableList();
     }
 
     @Override
@@ -0,0 +1,135 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A page of a source list: at most a page size of its items, from an offset, kept up to date as the source changes.
+ * <p>
+ * Without a page size, this holds every item of the source and follows its changes one by one. With a page size,
+ * it is refreshed from the items of the page alone, whenever the source changes or another page is shown, so showing
+ * a page takes time in the page size rather than in the size of the source.
+ */
+class PagedList<E> {
+
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final ObservableList<E> source;
+    private final ObservableList<E> page = FXCollections.observableArrayList();
+    private final ObservableList<E> unmodifiablePage = FXCollections.unmodifiableObservableList(page);
+    private int offset;
+    private int pageSize = UNLIMITED;
+
+    PagedList(ObservableList<E> source) {
+        requireNonNull(source);
+        this.source = source;
+        page.setAll(source);
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Returns the items of the page, as an unmodifiable {@code ObservableList}.
+     */
+    ObservableList<E> asUnmodifiableObservableList() {
+        return unmodifiablePage;
+    }
+
+    /**
+     * Shows the first {@code pageSize} items of the source.
+     */
+    void showFirstPage(int pageSize) {
+        if (pageSize < 0) {
+            throw new IllegalArgumentException("The page size cannot be negative");
+        }
+        this.offset = 0;
+        this.pageSize = pageSize;
+        refreshPage();
+    }
+
+    /**
+     * Shows every item of the source.
+     */
+    void showAll() {
+        if (!isPaged() && offset == 0) {
+            return;
+        }
+        offset = 0;
+        pageSize = UNLIMITED;
+        page.setAll(source);
+    }
+
+    /**
+     * Shows the page after the current one, if there is one.
+     *
+     * @return true if another page is shown.
+     */
+    boolean showNextPage() {
+        if (!isPaged() || pageSize == 0 || offset + pageSize >= source.size()) {
+            return false;
+        }
+        offset += pageSize;
+        refreshPage();
+        return true;
+    }
+
+    /**
+     * Shows the page before the current one, if there is one.
+     *
+     * @return true if another page is shown.
+     */
+    boolean showPreviousPage() {
+        if (!isPaged() || offset == 0) {
+            return false;
+        }
+        offset = Math.max(0, offset - pageSize);
+        refreshPage();
+        return true;
+    }
+
+    /**
+     * Returns true if only a page of the source is shown, rather than all of it.
+     */
+    boolean isPaged() {
+        return pageSize != UNLIMITED;
+    }
+
+    /**
+     * Returns the position in the source of the first item of the page.
+     */
+    int getOffset() {
+        return offset;
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        if (isPaged()) {
+            refreshPage();
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                page.setAll(source);
+                return;
+            }
+            if (change.wasRemoved()) {
+                page.remove(change.getFrom(), change.getFrom() + change.getRemovedSize());
+            }
+            if (change.wasAdded()) {
+                page.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+
+    /**
+     * Refills the page from the source, moving back to the last page if the source no longer reaches the offset.
+     */
+    private void refreshPage() {
+        if (offset >= source.size() && offset > 0) {
+            offset = pageSize == 0 ? 0 : Math.max(0, (source.size() - 1) / pageSize * pageSize);
+        }
+        int end = (int) Math.min(source.size(), (long) offset + pageSize);
+        page.setAll(source.subList(offset, end));
+    }
+}
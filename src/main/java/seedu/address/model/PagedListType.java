@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The lists that can be shown a page at a time.
+ */
+public enum PagedListType {
+    /** The filtered person list. */
+    PERSONS,
+    /** The filtered and sorted visit list. */
+    VISITS
+}
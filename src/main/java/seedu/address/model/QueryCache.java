@@ -0,0 +1,65 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A cache of the results of a lookup, holding the results of the queries looked up most recently.
+ * <p>
+ * {@link #invalidate()} drops every result whenever the data the lookup depends on changes, so results looked up
+ * before are never used again, and do not stay in memory until they are evicted.
+ */
+class QueryCache<K, V> {
+
+    private final String name;
+    private final int capacity;
+    private final Map<K, V> results;
+    private long hits;
+    private long misses;
+
+    QueryCache(String name, int capacity) {
+        requireNonNull(name);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive");
+        }
+        this.name = name;
+        this.capacity = capacity;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > QueryCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the result of {@code query}, looking it up with {@code lookup} if there is no result of it since the
+     * cache was last invalidated. {@code query} must be normalized, so that queries with the same result are equal.
+     */
+    V get(K query, Function<? super K, ? extends V> lookup) {
+        requireNonNull(query);
+        V result = results.get(query);
+        if (result != null) {
+            hits++;
+            return result;
+        }
+        misses++;
+        V value = lookup.apply(query);
+        results.put(query, value);
+        return value;
+    }
+
+    /**
+     * Drops the results looked up so far, so that they are not used again.
+     */
+    void invalidate() {
+        results.clear();
+    }
+
+    QueryCacheStatistics getStatistics() {
+        return new QueryCacheStatistics(name, hits, misses, capacity);
+    }
+}
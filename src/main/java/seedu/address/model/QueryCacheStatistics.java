@@ -0,0 +1,72 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * The number of lookups a query cache of the Med Logger answered from its results, and the number it did not.
+ * Guarantees: immutable.
+ */
+public class QueryCacheStatistics {
+
+    private final String name;
+    private final long hits;
+    private final long misses;
+    private final int capacity;
+
+    /**
+     * Creates the statistics of the cache called {@code name}, which holds up to {@code capacity} results.
+     */
+    public QueryCacheStatistics(String name, long hits, long misses, int capacity) {
+        requireNonNull(name);
+        this.name = name;
+        this.hits = hits;
+        this.misses = misses;
+        this.capacity = capacity;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCacheStatistics)) {
+            return false;
+        }
+
+        QueryCacheStatistics otherStatistics = (QueryCacheStatistics) other;
+        return name.equals(otherStatistics.name)
+                && hits == otherStatistics.hits
+                && misses == otherStatistics.misses
+                && capacity == otherStatistics.capacity;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, hits, misses, capacity);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d hits, %d misses (up to %d results)", name, hits, misses, capacity);
+    }
+}
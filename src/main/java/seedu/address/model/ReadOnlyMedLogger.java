@@ -1,6 +1,9 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonVisitDictionary;
 import seedu.address.model.person.Visit;
@@ -25,4 +28,12 @@ public interface ReadOnlyMedLogger {
      * Returns the dictionary.
      */
     PersonVisitDictionary getDictionary();
+
+    /**
+     * Returns the person with {@code nric}, which is how visits refer to their person.
+     * The default implementation searches the person list.
+     */
+    default Optional<Person> getPersonByNric(Nric nric) {
+        return getPersonList().stream().filter(person -> person.getNric().equals(nric)).findFirst();
+    }
 }
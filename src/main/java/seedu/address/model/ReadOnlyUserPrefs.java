@@ -13,4 +13,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getMedLoggerFilePath();
 
+    MedLoggerFileFormat getMedLoggerFileFormat();
+
+    boolean isMedLoggerSharded();
+
 }
@@ -0,0 +1,153 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.TreeSet;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Visit;
+
+/**
+ * The first visits of a source list in a given order, up to a limit, kept up to date as the source changes.
+ * <p>
+ * Without a limit, this holds every visit of the source, in the same order, and follows its changes one by one.
+ * With a limit, only the first visits are held, in a set bounded by the limit, so that selecting them does not sort
+ * the whole source. A visit added to the source only takes the place of the last held visit if it comes before it,
+ * and the source is only gone through again when a held visit is removed and another has to take its place.
+ */
+class TopVisitList {
+
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final ObservableList<Visit> source;
+    private final ObservableList<Visit> visits = FXCollections.observableArrayList();
+    private final ObservableList<Visit> unmodifiableVisits = FXCollections.unmodifiableObservableList(visits);
+    private TreeSet<Visit> topVisits;
+    private int limit = UNLIMITED;
+
+    TopVisitList(ObservableList<Visit> source) {
+        requireNonNull(source);
+        this.source = source;
+        visits.setAll(source);
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Returns the held visits, as an unmodifiable {@code ObservableList}.
+     * With a limit, they are in the order given to {@link #showTop(Comparator, int)}.
+     */
+    ObservableList<Visit> asUnmodifiableObservableList() {
+        return unmodifiableVisits;
+    }
+
+    /**
+     * Holds only the first {@code limit} visits of the source in the order of {@code comparator}.
+     * Visits that the comparator ranks the same are ordered by their IDs.
+     */
+    void showTop(Comparator<Visit> comparator, int limit) {
+        requireNonNull(comparator);
+        if (limit < 0) {
+            throw new IllegalArgumentException("The limit cannot be negative");
+        }
+        this.limit = limit;
+        this.topVisits = new TreeSet<>(comparator.thenComparingLong(Visit::getId));
+        selectTop();
+    }
+
+    /**
+     * Holds every visit of the source.
+     */
+    void showAll() {
+        if (!isLimited()) {
+            return;
+        }
+        limit = UNLIMITED;
+        topVisits = null;
+        visits.setAll(source);
+    }
+
+    /**
+     * Returns true if only the first visits of the source are held, rather than all of them.
+     */
+    boolean isLimited() {
+        return limit != UNLIMITED;
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends Visit> change) {
+        if (!isLimited()) {
+            copyChange(change);
+            return;
+        }
+        boolean hasRemovedTopVisit = false;
+        while (change.next()) {
+            for (Visit removed : change.getRemoved()) {
+                if (topVisits.remove(removed)) {
+                    visits.remove(removed);
+                    hasRemovedTopVisit = true;
+                }
+            }
+            for (Visit added : change.getAddedSubList()) {
+                offer(added);
+            }
+        }
+        if (hasRemovedTopVisit && topVisits.size() < Math.min(limit, source.size())) {
+            selectTop();
+        }
+    }
+
+    /**
+     * Makes the same change to the held visits as {@code change} made to the source.
+     */
+    private void copyChange(ListChangeListener.Change<? extends Visit> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                visits.setAll(source);
+                return;
+            }
+            if (change.wasRemoved()) {
+                visits.remove(change.getFrom(), change.getFrom() + change.getRemovedSize());
+            }
+            if (change.wasAdded()) {
+                visits.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+
+    /**
+     * Holds {@code visit} if it is among the first visits, letting go of the last held visit if there are too many.
+     */
+    private void offer(Visit visit) {
+        if (topVisits.size() < limit) {
+            topVisits.add(visit);
+            visits.add(topVisits.headSet(visit).size(), visit);
+            return;
+        }
+        if (limit == 0 || topVisits.comparator().compare(visit, topVisits.last()) >= 0) {
+            return;
+        }
+        visits.remove(topVisits.pollLast());
+        topVisits.add(visit);
+        visits.add(topVisits.headSet(visit).size(), visit);
+    }
+
+    /**
+     * Selects the first visits of the source again, going through it once.
+     */
+    private void selectTop() {
+        topVisits.clear();
+        if (limit > 0) {
+            for (Visit visit : source) {
+                if (topVisits.size() < limit) {
+                    topVisits.add(visit);
+                } else if (topVisits.comparator().compare(visit, topVisits.last()) < 0) {
+                    topVisits.pollLast();
+                    topVisits.add(visit);
+                }
+            }
+        }
+        visits.setAll(topVisits);
+    }
+}
@@ -15,6 +15,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path medLoggerFilePath = Paths.get("data" , "MedLogger.json");
+    private MedLoggerFileFormat medLoggerFileFormat = MedLoggerFileFormat.JSON;
+    private boolean isMedLoggerSharded = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +38,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setMedLoggerFilePath(newUserPrefs.getMedLoggerFilePath());
+        setMedLoggerFileFormat(newUserPrefs.getMedLoggerFileFormat());
+        setMedLoggerSharded(newUserPrefs.isMedLoggerSharded());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +60,23 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.medLoggerFilePath = medLoggerFilePath;
     }
 
+    public MedLoggerFileFormat getMedLoggerFileFormat() {
+        return medLoggerFileFormat;
+    }
+
+    public void setMedLoggerFileFormat(MedLoggerFileFormat medLoggerFileFormat) {
+        requireNonNull(medLoggerFileFormat);
+        this.medLoggerFileFormat = medLoggerFileFormat;
+    }
+
+    public boolean isMedLoggerSharded() {
+        return isMedLoggerSharded;
+    }
+
+    public void setMedLoggerSharded(boolean isMedLoggerSharded) {
+        this.isMedLoggerSharded = isMedLoggerSharded;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +90,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && medLoggerFilePath.equals(otherUserPrefs.medLoggerFilePath);
+                && medLoggerFilePath.equals(otherUserPrefs.medLoggerFilePath)
+                && medLoggerFileFormat.equals(otherUserPrefs.medLoggerFileFormat)
+                && isMedLoggerSharded == otherUserPrefs.isMedLoggerSharded;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, medLoggerFilePath);
+        return Objects.hash(guiSettings, medLoggerFilePath, medLoggerFileFormat, isMedLoggerSharded);
     }
 
     @Override
@@ -82,6 +105,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + medLoggerFilePath);
+        sb.append("\nLocal data file format : " + medLoggerFileFormat);
+        sb.append("\nLocal data file sharded : " + isMedLoggerSharded);
         return sb.toString();
     }
 
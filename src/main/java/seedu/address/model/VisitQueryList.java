@@ -0,0 +1,109 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Comparator;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Visit;
+import seedu.address.model.person.VisitQuery;
+
+/**
+ * The visits of a {@code MedLogger} that match a {@link VisitQuery}, kept up to date as the visits change.
+ * <p>
+ * For {@link VisitQuery#ALL}, this holds every visit, in the same order as the {@code MedLogger}. For any other
+ * query, it only holds the matching visits, from earliest to latest, which are found through the time and text
+ * indexes or the person-visit dictionary of the {@code MedLogger}. Setting a query, and keeping up with changes to
+ * visits, therefore does not go through visits that do not match. Lists built on top of this one, such as a
+ * {@code FilteredList}, likewise only see the matching visits.
+ */
+class VisitQueryList {
+
+    /** The order of the matching visits, which is the order {@code MedLogger#getVisitsMatching} returns them in. */
+    private static final Comparator<Visit> TIME_ORDER = Comparator.comparing(Visit::getDateTime)
+            .thenComparingLong(Visit::getId);
+
+    private final MedLogger medLogger;
+    private final ObservableList<Visit> visits = FXCollections.observableArrayList();
+    private final ObservableList<Visit> unmodifiableVisits = FXCollections.unmodifiableObservableList(visits);
+    private VisitQuery query = VisitQuery.ALL;
+
+    VisitQueryList(MedLogger medLogger) {
+        requireNonNull(medLogger);
+        this.medLogger = medLogger;
+        visits.setAll(medLogger.getVisitList());
+        medLogger.getVisitList().addListener(this::onVisitsChanged);
+    }
+
+    /**
+     * Returns the matching visits, as an unmodifiable {@code ObservableList}.
+     */
+    ObservableList<Visit> asUnmodifiableObservableList() {
+        return unmodifiableVisits;
+    }
+
+    /**
+     * Limits this list to the visits matching {@code query}.
+     */
+    void setQuery(VisitQuery query) {
+        requireNonNull(query);
+        if (this.query.equals(query)) {
+            return;
+        }
+        this.query = query;
+        visits.setAll(query.isAll() ? medLogger.getVisitList() : medLogger.getVisitsMatching(query));
+    }
+
+    private void onVisitsChanged(ListChangeListener.Change<? extends Visit> change) {
+        while (change.next()) {
+            if (query.isAll()) {
+                copyChange(change);
+                continue;
+            }
+            for (Visit removed : change.getRemoved()) {
+                if (query.matches(removed)) {
+                    removeMatching(removed);
+                }
+            }
+            for (Visit added : change.getAddedSubList()) {
+                if (query.matches(added)) {
+                    visits.add(getInsertionIndex(added), added);
+                }
+            }
+        }
+    }
+
+    /**
+     * Makes the same change to this list as {@code change} made to the visits of the {@code MedLogger}.
+     */
+    private void copyChange(ListChangeListener.Change<? extends Visit> change) {
+        if (change.wasPermutated()) {
+            visits.setAll(medLogger.getVisitList());
+            return;
+        }
+        if (change.wasRemoved()) {
+            visits.remove(change.getFrom(), change.getFrom() + change.getRemovedSize());
+        }
+        if (change.wasAdded()) {
+            visits.addAll(change.getFrom(), change.getAddedSubList());
+        }
+    }
+
+    /**
+     * Returns the index of {@code visit} in this list, or the index it would be inserted at if it is not in it.
+     */
+    private int getInsertionIndex(Visit visit) {
+        int index = Collections.binarySearch(visits, visit, TIME_ORDER);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private void removeMatching(Visit visit) {
+        int index = getInsertionIndex(visit);
+        if (index < visits.size() && visits.get(index).equals(visit)) {
+            visits.remove(index);
+        }
+    }
+}
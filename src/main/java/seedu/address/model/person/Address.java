@@ -10,7 +10,6 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 public class Address {
 
     public static final String MESSAGE_CONSTRAINTS = "Addresses can take any values, and it should not be blank";
-    public static final Address DUMMY_ADDRESS = new Address("Dummy Address Singapore 123456");
 
     /*
      * The first character of the address must not be a whitespace,
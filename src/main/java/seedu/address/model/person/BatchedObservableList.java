@@ -0,0 +1,119 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An array-backed {@code ObservableList} whose changes can be grouped into batches.
+ * <p>
+ * The changes made between {@link #beginBatch()} and the matching {@link #endBatch()} are reported to the
+ * listeners as a single change when the batch ends, so lists built on top of this one are updated once for the
+ * whole batch. Batches may be nested, in which case the changes are reported when the outermost batch ends.
+ */
+class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Starts a batch of changes.
+     * Every call must be followed by a call to {@link #endBatch()}, even if a change in the batch fails.
+     */
+    void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends a batch of changes, reporting them if it is the outermost batch.
+     */
+    void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Removes the range in one step, rather than one element at a time from its start, which would move the rest of
+     * the list once for every element removed.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        List<E> range = elements.subList(fromIndex, toIndex);
+        beginChange();
+        nextRemove(fromIndex, new ArrayList<>(range));
+        range.clear();
+        modCount++;
+        endChange();
+    }
+
+    /**
+     * Removes the elements in {@code c} in a single sweep, moving each element that is kept at most once, rather than
+     * removing the elements one at a time, which would move the rest of the list once for every element removed.
+     * Each run of adjacent elements removed is reported as one removal.
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        requireNonNull(c);
+        if (c.isEmpty()) {
+            return false;
+        }
+        int size = elements.size();
+        int keptCount = 0;
+        beginChange();
+        try {
+            int index = 0;
+            while (index < size) {
+                E element = elements.get(index);
+                if (!c.contains(element)) {
+                    elements.set(keptCount++, element);
+                    index++;
+                    continue;
+                }
+                int runStart = index;
+                do {
+                    index++;
+                } while (index < size && c.contains(elements.get(index)));
+                // The kept elements are only moved into places before the run, so the run is still intact here.
+                nextRemove(keptCount, new ArrayList<>(elements.subList(runStart, index)));
+            }
+            if (keptCount == size) {
+                return false;
+            }
+            elements.subList(keptCount, size).clear();
+            modCount++;
+            return true;
+        } finally {
+            endChange();
+        }
+    }
+}
@@ -3,17 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
 
 /**
  * Represents a DateTime in the system.
+ * DateTimes are ordered chronologically.
  * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
  */
-public class DateTime {
+public class DateTime implements Comparable<DateTime> {
 
     public static final String MESSAGE_CONSTRAINTS = "Dates should be in the format yyyy-mm-dd HH:mm and valid";
     public static final String MESSAGE_CONSTRAINTS_DATE_ONLY = "Dates should be in the format yyyy-mm-dd and valid";
@@ -27,8 +28,16 @@ public class DateTime {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final long INVALID = Long.MIN_VALUE;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int DAYS_PER_400_YEARS = 146097;
+    private static final int DAYS_FROM_YEAR_0_TO_1970 = 719468;
+
     public final String value;
 
+    /** Minutes from 1970-01-01 00:00 to this date and time, parsed once so that comparisons do not parse. */
+    private final long epochMinute;
+
     /**
      * Constructs a {@code DateTime}.
      *
@@ -36,21 +45,19 @@ public class DateTime {
      */
     public DateTime(String date) {
         requireNonNull(date);
-        checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
+        long parsedEpochMinute = parseEpochMinute(date);
+        checkArgument(parsedEpochMinute != INVALID, MESSAGE_CONSTRAINTS);
         value = date;
+        epochMinute = parsedEpochMinute;
     }
 
     /**
      * Returns true if a given string is a valid date in yyyy-mm-dd HH:mm format.
+     * Checks the characters directly rather than going through {@link #FORMATTER}, so nothing is allocated and no
+     * exception is thrown for an invalid date.
      */
     public static boolean isValidDate(String date) {
-        try {
-            LocalDateTime.parse(date, FORMATTER);
-            return true;
-        } catch (DateTimeParseException e) {
-            System.out.println(e.getMessage());
-            return false;
-        }
+        return parseEpochMinute(date) != INVALID;
     }
 
     /**
@@ -59,23 +66,29 @@ public class DateTime {
      * @return true if the date is valid.
      */
     public static boolean isValidDateOnly(String date) {
-        DateTimeFormatter dateOnlyFormatter = DateTimeFormatter
-                .ofPattern("uuuu-MM-dd")
-                .withResolverStyle(ResolverStyle.STRICT);
-        try {
-            LocalDate.parse(date, dateOnlyFormatter);
-            return true;
-        } catch (DateTimeParseException e) {
-            System.out.println(e.getMessage());
-            return false;
-        }
+        return date.length() == 10 && parseEpochDay(date) != INVALID;
     }
 
     /**
-     * Returns true if a given string is a valid date in yyyy-mm-dd HH:mm format.
+     * Returns this date and time as a {@code LocalDateTime}.
      */
     public LocalDateTime toLocalDateTime() {
-        return LocalDateTime.parse(value, FORMATTER);
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the number of minutes from 1970-01-01 00:00 to this date and time.
+     * Ordering by this number is the same as ordering chronologically.
+     */
+    public long getEpochMinute() {
+        return epochMinute;
+    }
+
+    /**
+     * Returns the {@code DateTime} of {@code dateTime}, to the minute.
+     */
+    public static DateTime of(LocalDateTime dateTime) {
+        return new DateTime(dateTime.format(FORMATTER));
     }
 
     /**
@@ -87,6 +100,11 @@ public class DateTime {
     }
 
 
+    @Override
+    public int compareTo(DateTime other) {
+        return Long.compare(epochMinute, other.epochMinute);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -104,12 +122,82 @@ public class DateTime {
         }
 
         DateTime otherDateTime = (DateTime) other;
-        return value.equals(otherDateTime.value);
+        return epochMinute == otherDateTime.epochMinute;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(epochMinute);
+    }
+
+    /**
+     * Returns the minutes from 1970-01-01 00:00 to {@code date}, or {@code INVALID} if {@code date} is not a valid
+     * date in yyyy-mm-dd HH:mm format.
+     */
+    private static long parseEpochMinute(String date) {
+        if (date.length() != 16 || date.charAt(10) != ' ' || date.charAt(13) != ':') {
+            return INVALID;
+        }
+        long epochDay = parseEpochDay(date);
+        int hour = parseDigits(date, 11, 2);
+        int minute = parseDigits(date, 14, 2);
+        if (epochDay == INVALID || hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return INVALID;
+        }
+        return epochDay * MINUTES_PER_DAY + hour * 60 + minute;
+    }
+
+    /**
+     * Returns the days from 1970-01-01 to the yyyy-mm-dd date at the start of {@code date}, or {@code INVALID} if
+     * there is no valid date there.
+     */
+    private static long parseEpochDay(String date) {
+        if (date.length() < 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
+            return INVALID;
+        }
+        int year = parseDigits(date, 0, 4);
+        int month = parseDigits(date, 5, 2);
+        int day = parseDigits(date, 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > getLengthOfMonth(year, month)) {
+            return INVALID;
+        }
+        // Counts from 1 March, so that the leap day is the last day of its year.
+        int marchBasedYear = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(marchBasedYear, 400);
+        long yearOfEra = marchBasedYear - era * 400;
+        int dayOfYear = (153 * (month <= 2 ? month + 9 : month - 3) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_400_YEARS + dayOfEra - DAYS_FROM_YEAR_0_TO_1970;
+    }
+
+    /**
+     * Returns the number written with the {@code length} digits of {@code text} from {@code start}, or -1 if any of
+     * them is not a digit.
+     */
+    private static int parseDigits(String text, int start, int length) {
+        int number = 0;
+        for (int i = start; i < start + length; i++) {
+            char digit = text.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return -1;
+            }
+            number = number * 10 + (digit - '0');
+        }
+        return number;
+    }
+
+    private static int getLengthOfMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            return Year.isLeap(year) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
     }
 
 }
@@ -11,7 +11,6 @@ public class Name {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Names should only contain alphanumeric characters and spaces, and it should not be blank";
-    public static final Name DUMMY_NAME = new Name("dummy");
 
     /*
      * The first character of the address must not be a whitespace,
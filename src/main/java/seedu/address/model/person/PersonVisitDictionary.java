@@ -3,11 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.DuplicateVisitException;
@@ -15,32 +18,72 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.exceptions.VisitNotFoundException;
 
 /**
- * A dictionary that maps each person to their visits.
+ * A dictionary that maps the NRIC of each person to their visits.
+ * Each person's visits are kept in a sorted set, ordered by time, so checking for, adding and removing a visit
+ * takes logarithmic time in the number of visits of that person, and their latest visits are found without
+ * going through the others.
  * Supports a minimal set of list operations.
  */
 public class PersonVisitDictionary {
-    private final Map<Person, List<Visit>> personToVisits = new HashMap<>();
+
+    /**
+     * Orders the visits of one person by time. Visits at the same time are ordered by their other details, so that
+     * two visits of the same person are only ordered as equal if they are equal.
+     */
+    private static final Comparator<Visit> VISIT_ORDER = Comparator.comparing(Visit::getDateTime)
+            .thenComparing(visit -> visit.getRemark().value)
+            .thenComparing(visit -> visit.getSymptom().value)
+            .thenComparing(visit -> visit.getDiagnosis().value)
+            .thenComparing(visit -> visit.getMedication().value)
+            .thenComparing(visit -> visit.getFollowUp().value);
+
+    private final Map<Nric, NavigableSet<Visit>> personToVisits = new HashMap<>();
 
     /**
      * Replaces the contents of this map with {@code personsToVisits}.
      */
-    public void setDictionary(Map<Person, List<Visit>> personToVisits) {
+    public void setDictionary(Map<Nric, ? extends Collection<Visit>> personToVisits) {
         requireNonNull(personToVisits);
         this.personToVisits.clear();
-        for (Map.Entry<Person, List<Visit>> entry : personToVisits.entrySet()) {
-            this.personToVisits.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        for (Map.Entry<Nric, ? extends Collection<Visit>> entry : personToVisits.entrySet()) {
+            NavigableSet<Visit> visits = new TreeSet<>(VISIT_ORDER);
+            visits.addAll(entry.getValue());
+            this.personToVisits.put(entry.getKey(), visits);
         }
     }
 
+    /**
+     * Replaces the contents of this map with {@code persons}, each mapped to their visits in {@code visits}.
+     * Every visit must belong to one of {@code persons}.
+     */
+    public void setDictionary(List<Person> persons, List<Visit> visits) {
+        requireAllNonNull(persons, visits);
+        Map<Nric, NavigableSet<Visit>> replacement = new HashMap<>();
+        for (Person person : persons) {
+            if (replacement.put(person.getNric(), new TreeSet<>(VISIT_ORDER)) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+        for (Visit visit : visits) {
+            NavigableSet<Visit> personVisits = replacement.get(visit.getNric());
+            if (personVisits == null) {
+                throw new PersonNotFoundException();
+            }
+            personVisits.add(visit);
+        }
+        personToVisits.clear();
+        personToVisits.putAll(replacement);
+    }
+
     /**
      * Adds a new person.
      */
     public void addPerson(Person person) {
         requireNonNull(person);
-        if (personToVisits.containsKey(person)) {
+        if (personToVisits.containsKey(person.getNric())) {
             throw new DuplicatePersonException();
         }
-        personToVisits.put(person, new ArrayList<>());
+        personToVisits.put(person.getNric(), new TreeSet<>(VISIT_ORDER));
     }
 
     /**
@@ -48,32 +91,22 @@ public class PersonVisitDictionary {
      */
     public void addVisit(Visit visit) {
         requireNonNull(visit);
-        Person person = visit.getPerson();
-        if (!personToVisits.containsKey(person)) {
-            throw new PersonNotFoundException();
-        }
-        if (personToVisits.get(person).contains(visit)) {
+        if (!getVisitsOf(visit.getNric()).add(visit)) {
             throw new DuplicateVisitException();
         }
-        personToVisits.get(person).add(visit);
     }
 
+    /**
+     * Replaces the visit {@code target} with {@code editedVisit}, which may belong to another person.
+     */
     public void setVisit(Visit target, Visit editedVisit) {
         requireAllNonNull(target, editedVisit);
-        if (target.getPerson().equals(editedVisit.getPerson())) {
-            if (!personToVisits.containsKey(target.getPerson())) {
-                throw new PersonNotFoundException();
-            }
-            personToVisits.get(target.getPerson()).add(editedVisit);
-            personToVisits.get(target.getPerson()).remove(target);
-        } else {
-            if (!personToVisits.containsKey(target.getPerson())
-                    || !personToVisits.containsKey(editedVisit.getPerson())) {
-                throw new PersonNotFoundException();
-            }
-            personToVisits.get(target.getPerson()).remove(target);
-            personToVisits.get(editedVisit.getPerson()).add(editedVisit);
+        NavigableSet<Visit> targetVisits = getVisitsOf(target.getNric());
+        NavigableSet<Visit> editedVisits = getVisitsOf(editedVisit.getNric());
+        if (!targetVisits.remove(target)) {
+            throw new VisitNotFoundException();
         }
+        editedVisits.add(editedVisit);
     }
 
     /**
@@ -81,31 +114,37 @@ public class PersonVisitDictionary {
      */
     public void removeVisit(Visit visit) {
         requireNonNull(visit);
-        Person person = visit.getPerson();
-        if (!personToVisits.containsKey(person)) {
-            throw new PersonNotFoundException();
-        }
-        if (!personToVisits.get(person).contains(visit)) {
+        if (!getVisitsOf(visit.getNric()).remove(visit)) {
             throw new VisitNotFoundException();
         }
-        personToVisits.get(person).remove(visit);
+    }
+
+    /**
+     * Removes every visit, keeping the persons.
+     */
+    public void clearVisits() {
+        personToVisits.values().forEach(NavigableSet::clear);
     }
 
     /**
      * Replaces a person with its edited version.
-     * Migrates their visits to the edited version.
+     * Their visits only change if the edit changes their NRIC, in which case each visit is moved to the new NRIC.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        if (!personToVisits.containsKey(target)) {
-            throw new PersonNotFoundException();
+        NavigableSet<Visit> targetPersonVisits = getVisitsOf(target.getNric());
+        if (target.getNric().equals(editedPerson.getNric())) {
+            return;
         }
-        List<Visit> targetPersonVisits = personToVisits.get(target);
-        personToVisits.remove(target);
-        addPerson(editedPerson);
+        if (personToVisits.containsKey(editedPerson.getNric())) {
+            throw new DuplicatePersonException();
+        }
+        personToVisits.remove(target.getNric());
+        NavigableSet<Visit> editedPersonVisits = new TreeSet<>(VISIT_ORDER);
         for (Visit visit : targetPersonVisits) {
-            personToVisits.get(editedPerson).add(visit.withPerson(editedPerson));
+            editedPersonVisits.add(visit.withNric(editedPerson.getNric()));
         }
+        personToVisits.put(editedPerson.getNric(), editedPersonVisits);
     }
 
     /**
@@ -113,21 +152,40 @@ public class PersonVisitDictionary {
      */
     public void removePerson(Person person) {
         requireNonNull(person);
-        if (!personToVisits.containsKey(person)) {
+        if (personToVisits.remove(person.getNric()) == null) {
             throw new PersonNotFoundException();
         }
-        personToVisits.remove(person);
     }
 
-    public List<Visit> getVisitsForPerson(Person person) {
+    /**
+     * Returns the visits of {@code person}, from earliest to latest.
+     */
+    public NavigableSet<Visit> getVisitsForPerson(Person person) {
         requireNonNull(person);
-        return Collections.unmodifiableList(
-                personToVisits.getOrDefault(person, Collections.emptyList())
-        );
+        return getVisitsForNric(person.getNric());
+    }
+
+    /**
+     * Returns the visits of the person with {@code nric}, from earliest to latest.
+     * There are none if no such person is in the dictionary.
+     */
+    public NavigableSet<Visit> getVisitsForNric(Nric nric) {
+        requireNonNull(nric);
+        NavigableSet<Visit> visits = personToVisits.get(nric);
+        return visits == null
+                ? Collections.emptyNavigableSet()
+                : Collections.unmodifiableNavigableSet(visits);
     }
 
-    public Map<Person, List<Visit>> getDictionary() {
+    public Map<Nric, NavigableSet<Visit>> getDictionary() {
         return Collections.unmodifiableMap(this.personToVisits);
     }
-}
 
+    private NavigableSet<Visit> getVisitsOf(Nric nric) {
+        NavigableSet<Visit> visits = personToVisits.get(nric);
+        if (visits == null) {
+            throw new PersonNotFoundException();
+        }
+        return visits;
+    }
+}
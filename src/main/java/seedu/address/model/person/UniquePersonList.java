@@ -3,10 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,23 +24,30 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are indexed by NRIC, which is the identity compared by {@code Person#isSamePerson(Person)},
+ * together with their position in the list, so that lookups do not need to scan the list.
+ * The words of their names are also indexed, in lower case, so that finding the persons with a name word does not
+ * split every name again.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Person> internalList = new BatchedObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
     private final HashMap<String, Person> personMap = new HashMap<>();
+    private final HashMap<String, Integer> positionMap = new HashMap<>();
+    private final HashMap<String, Set<String>> nricsByNameWord = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personMap.containsKey(toCheck.getNric().value);
     }
 
     /**
@@ -48,8 +59,10 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        personMap.put(toAdd.getNric().value, toAdd);
+        positionMap.put(toAdd.getNric().value, internalList.size());
+        addNameWords(toAdd);
         internalList.add(toAdd);
-        personMap.put(toAdd.getNric().toString(), toAdd);
     }
 
     /**
@@ -60,7 +73,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -69,9 +82,14 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        Person storedTarget = internalList.get(index);
+        personMap.remove(target.getNric().value);
+        positionMap.remove(target.getNric().value);
+        removeNameWords(storedTarget);
+        personMap.put(editedPerson.getNric().value, editedPerson);
+        positionMap.put(editedPerson.getNric().value, index);
+        addNameWords(editedPerson);
         internalList.set(index, editedPerson);
-        personMap.remove(target.getNric().toString());
-        personMap.put(editedPerson.getNric().toString(), editedPerson);
     }
 
     /**
@@ -80,17 +98,29 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
-        personMap.remove(toRemove.getNric().toString());
+        personMap.remove(toRemove.getNric().value);
+        positionMap.remove(toRemove.getNric().value);
+        removeNameWords(toRemove);
+        internalList.remove(index);
+        reindexFrom(index);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
         personMap.clear();
         personMap.putAll(replacement.personMap);
+        positionMap.clear();
+        positionMap.putAll(replacement.positionMap);
+        nricsByNameWord.clear();
+        replacement.nricsByNameWord.forEach((word, nrics) -> nricsByNameWord.put(word, new HashSet<>(nrics)));
+        internalList.setAll(replacement.internalList);
     }
 
     /**
@@ -99,13 +129,50 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        HashMap<String, Person> replacementPersonMap = new HashMap<>();
+        HashMap<String, Integer> replacementPositionMap = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            if (replacementPersonMap.putIfAbsent(person.getNric().value, person) != null) {
+                throw new DuplicatePersonException();
+            }
+            replacementPositionMap.put(person.getNric().value, i);
         }
-        internalList.setAll(persons);
+
         personMap.clear();
-        for (Person person : persons) {
-            personMap.put(person.getNric().value, person);
+        personMap.putAll(replacementPersonMap);
+        positionMap.clear();
+        positionMap.putAll(replacementPositionMap);
+        nricsByNameWord.clear();
+        persons.forEach(this::addNameWords);
+        internalList.setAll(persons);
+    }
+
+    /**
+     * Returns the NRICs of the persons whose name contains any of {@code words} as a full word, ignoring case.
+     */
+    public Set<Nric> getNricsWithNameWords(Collection<String> words) {
+        requireAllNonNull(words);
+        Set<Nric> nrics = new HashSet<>();
+        for (String word : words) {
+            for (String nric : nricsByNameWord.getOrDefault(word.toLowerCase(), Collections.emptySet())) {
+                nrics.add(personMap.get(nric).getNric());
+            }
+        }
+        return nrics;
+    }
+
+    /**
+     * Runs {@code changes}, which change this list, reporting all of their changes to the list's listeners as a
+     * single change once they are done. The changes are reported even if {@code changes} throws.
+     */
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        internalList.beginBatch();
+        try {
+            changes.run();
+        } finally {
+            internalList.endBatch();
         }
     }
 
@@ -147,17 +214,49 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is none.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private int positionOf(Person person) {
+        Integer index = positionMap.get(person.getNric().value);
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    private void addNameWords(Person person) {
+        for (String word : getNameWords(person)) {
+            nricsByNameWord.computeIfAbsent(word, unused -> new HashSet<>()).add(person.getNric().value);
+        }
+    }
+
+    private void removeNameWords(Person person) {
+        for (String word : getNameWords(person)) {
+            Set<String> nrics = nricsByNameWord.get(word);
+            nrics.remove(person.getNric().value);
+            if (nrics.isEmpty()) {
+                nricsByNameWord.remove(word);
             }
         }
-        return true;
+    }
+
+    private static Set<String> getNameWords(Person person) {
+        Set<String> words = new HashSet<>();
+        for (String word : person.getName().fullName.toLowerCase().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Refreshes the recorded positions of the persons from {@code start} to the end of the list.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positionMap.put(internalList.get(i).getNric().value, i);
+        }
     }
 
     /**
@@ -167,6 +266,6 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Optional<Person> getPersonByNric(Nric nric) {
         requireNonNull(nric);
-        return Optional.ofNullable(personMap.get(nric.toString()));
+        return Optional.ofNullable(personMap.get(nric.value));
     }
 }
@@ -3,13 +3,24 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicateVisitException;
-import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.exceptions.VisitNotFoundException;
 
 /**
@@ -18,77 +29,236 @@ import seedu.address.model.person.exceptions.VisitNotFoundException;
  * visits uses Visit#equals(Object) for equality to ensure that the visit being added or updated is
  * unique in terms of identity in the UniqueVisitList.
  *
+ * Each visit in the list has an ID, which is assigned in increasing order when a visit without one is added,
+ * and is kept when the visit is edited. Visits are indexed by ID, so that looking up a visit taken from this list
+ * only compares IDs. Visits are also indexed by their details, for membership checks, by their time, so that
+ * the visits in a time range are found without going through the others, and by the trigrams of their searchable
+ * details, so that the visits containing a text are found by going through the candidates only.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Visit#equals(Object)
  */
 public class UniqueVisitList implements Iterable<Visit> {
 
-    private final ObservableList<Visit> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Visit> internalList = new BatchedObservableList<>();
     private final ObservableList<Visit> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Long, Integer> positionsById = new HashMap<>();
+    private final Map<Visit, Long> idsByVisit = new HashMap<>();
+    private final NavigableMap<DateTime, List<Visit>> visitsByTime = new TreeMap<>();
+    private final Map<VisitTextField, VisitTextIndex> textIndexes = createTextIndexes();
+    private long nextId = Visit.NO_ID + 1;
 
     /**
      * Returns true if the list contains an equivalent visit as the given argument.
      */
     public boolean contains(Visit toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return idsByVisit.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the visit with ID {@code id}, if there is one in the list.
+     */
+    public Optional<Visit> getVisitById(long id) {
+        Integer index = positionsById.get(id);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Returns the visits from {@code from} to {@code to}, both inclusive, from earliest to latest.
+     * Visits at the same time are in the order they were added.
+     * A null bound leaves that end of the range open.
+     */
+    public List<Visit> getVisitsBetween(DateTime from, DateTime to) {
+        NavigableMap<DateTime, List<Visit>> range = visitsByTime;
+        if (from != null) {
+            range = range.tailMap(from, true);
+        }
+        if (to != null) {
+            range = range.headMap(to, true);
+        }
+        List<Visit> visits = new ArrayList<>();
+        range.values().forEach(visits::addAll);
+        return visits;
+    }
+
+    /**
+     * Returns the visits matching {@code query}, from earliest to latest.
+     * Visits at the same time are in the order of their IDs.
+     */
+    public List<Visit> getVisitsMatching(VisitQuery query) {
+        requireNonNull(query);
+        if (query.getLowerCaseTexts().isEmpty()) {
+            return getVisitsBetween(query.getFrom(), query.getTo());
+        }
+
+        Set<Long> ids = null;
+        for (Map.Entry<VisitTextField, String> entry : query.getLowerCaseTexts().entrySet()) {
+            Set<Long> matchingIds = textIndexes.get(entry.getKey()).search(entry.getValue());
+            if (ids == null) {
+                ids = matchingIds;
+            } else {
+                ids.retainAll(matchingIds);
+            }
+        }
+
+        List<Visit> visits = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Visit visit = internalList.get(positionsById.get(id));
+            if (query.matches(visit)) {
+                visits.add(visit);
+            }
+        }
+        visits.sort(Comparator.comparing(Visit::getDateTime).thenComparingLong(Visit::getId));
+        return visits;
     }
 
     /**
-     * Adds a visit to the list.
+     * Adds a visit to the list, giving it the next ID if it does not have one.
+     *
+     * @return the visit as stored in the list.
      */
-    public void add(Visit toAdd) {
+    public Visit add(Visit toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || positionsById.containsKey(toAdd.getId())) {
             throw new DuplicateVisitException();
         }
-        internalList.add(toAdd);
+        Visit stored = assignId(toAdd);
+        positionsById.put(stored.getId(), internalList.size());
+        idsByVisit.put(stored, stored.getId());
+        addToIndexes(stored);
+        internalList.add(stored);
+        return stored;
     }
 
     /**
-     * Replaces the visit {@code target} in the list with {@code editedVisit}.
+     * Replaces the visit {@code target} in the list with {@code editedVisit}, which takes over the ID of
+     * {@code target}.
      * {@code target} must exist in the list.
      * The {@code editedVisit} must not be the same as another existing visit in the list.
+     *
+     * @return the edited visit as stored in the list.
      */
-    public void setVisit(Visit target, Visit editedVisit) {
+    public Visit setVisit(Visit target, Visit editedVisit) {
         requireAllNonNull(target, editedVisit);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new VisitNotFoundException();
-        }
-
-        if (!target.equals(editedVisit) && contains(editedVisit)) {
+        int index = indexOf(target);
+        Visit storedTarget = internalList.get(index);
+        if (!storedTarget.equals(editedVisit) && contains(editedVisit)) {
             throw new DuplicateVisitException();
         }
 
-        internalList.set(index, editedVisit);
+        Visit stored = editedVisit.getId() == storedTarget.getId()
+                ? editedVisit
+                : editedVisit.withId(storedTarget.getId());
+        idsByVisit.remove(storedTarget);
+        idsByVisit.put(stored, stored.getId());
+        removeFromIndexes(storedTarget);
+        addToIndexes(stored);
+        internalList.set(index, stored);
+        return stored;
     }
 
     /**
      * Removes the equivalent visit from the list.
-     * The viist must exist in the list.
+     * The visit must exist in the list.
+     *
+     * @return the visit as it was stored in the list.
      */
-    public void remove(Visit toRemove) {
+    public Visit remove(Visit toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
+        int index = indexOf(toRemove);
+        Visit stored = internalList.get(index);
+        positionsById.remove(stored.getId());
+        idsByVisit.remove(stored);
+        removeFromIndexes(stored);
+        internalList.remove(index);
+        reindexFrom(index);
+        return stored;
+    }
+
+    /**
+     * Removes the equivalents of {@code toRemove} from the list, as a single change to the list.
+     * The visits must exist in the list.
+     */
+    public void removeAll(Collection<Visit> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Visit> storedToRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        int firstIndex = internalList.size();
+        for (Visit visit : toRemove) {
+            int index = indexOf(visit);
+            storedToRemove.add(internalList.get(index));
+            firstIndex = Math.min(firstIndex, index);
+        }
+        for (Visit stored : storedToRemove) {
+            positionsById.remove(stored.getId());
+            idsByVisit.remove(stored);
+            removeFromIndexes(stored);
         }
+        internalList.removeAll(storedToRemove);
+        reindexFrom(firstIndex);
+    }
+
+    /**
+     * Removes every visit from the list, as a single change to the list.
+     * IDs given out before are not given out again.
+     */
+    public void clear() {
+        positionsById.clear();
+        idsByVisit.clear();
+        visitsByTime.clear();
+        textIndexes.values().forEach(VisitTextIndex::clear);
+        internalList.clear();
     }
 
     /**
-     * Replaces the contents of this list with {@code visits}.
-     * {@code visits} must not contain duplicate visits.
+     * Replaces the contents of this list with {@code visits}, giving the next IDs to those without one.
+     * {@code visits} must not contain duplicate visits, or visits with the same ID.
      */
     public void setVisits(List<Visit> visits) {
         requireAllNonNull(visits);
-        if (!visitsAreUnique(visits)) {
-            throw new DuplicateVisitException();
+        long replacementNextId = nextId;
+        for (Visit visit : visits) {
+            replacementNextId = Math.max(replacementNextId, visit.getId() + 1);
+        }
+
+        List<Visit> replacement = new ArrayList<>(visits.size());
+        Map<Long, Integer> replacementPositions = new HashMap<>();
+        Map<Visit, Long> replacementIds = new HashMap<>();
+        for (Visit visit : visits) {
+            Visit stored = visit.hasId() ? visit : visit.withId(replacementNextId++);
+            if (replacementPositions.putIfAbsent(stored.getId(), replacement.size()) != null
+                    || replacementIds.putIfAbsent(stored, stored.getId()) != null) {
+                throw new DuplicateVisitException();
+            }
+            replacement.add(stored);
         }
 
-        internalList.setAll(visits);
+        nextId = replacementNextId;
+        positionsById.clear();
+        positionsById.putAll(replacementPositions);
+        idsByVisit.clear();
+        idsByVisit.putAll(replacementIds);
+        visitsByTime.clear();
+        textIndexes.values().forEach(VisitTextIndex::clear);
+        replacement.forEach(this::addToIndexes);
+        internalList.setAll(replacement);
+    }
+
+    /**
+     * Runs {@code changes}, which change this list, reporting all of their changes to the list's listeners as a
+     * single change once they are done. The changes are reported even if {@code changes} throws.
+     */
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        internalList.beginBatch();
+        try {
+            changes.run();
+        } finally {
+            internalList.endBatch();
+        }
     }
 
     /**
@@ -110,7 +280,7 @@ public class UniqueVisitList implements Iterable<Visit> {
         }
 
         // instanceof handles nulls
-        if (!(other instanceof UniquePersonList)) {
+        if (!(other instanceof UniqueVisitList)) {
             return false;
         }
 
@@ -129,16 +299,62 @@ public class UniqueVisitList implements Iterable<Visit> {
     }
 
     /**
-     * Returns true if {@code visits} contains only unique visits.
+     * Returns the position of {@code target} in the list.
+     * A visit taken from this list is found by its ID alone, while other visits are found by their details.
+     *
+     * @throws VisitNotFoundException if {@code target} is not in the list.
      */
-    private boolean visitsAreUnique(List<Visit> visits) {
-        for (int i = 0; i < visits.size() - 1; i++) {
-            for (int j = i + 1; j < visits.size(); j++) {
-                if (visits.get(i).equals(visits.get(j))) {
-                    return false;
-                }
-            }
+    private int indexOf(Visit target) {
+        Integer index = target.hasId() ? positionsById.get(target.getId()) : null;
+        if (index == null || !internalList.get(index).equals(target)) {
+            Long id = idsByVisit.get(target);
+            index = id == null ? null : positionsById.get(id);
+        }
+        if (index == null) {
+            throw new VisitNotFoundException();
+        }
+        return index;
+    }
+
+    /**
+     * Returns {@code visit} with the next ID if it does not have one, and makes sure later IDs are higher.
+     */
+    private Visit assignId(Visit visit) {
+        if (visit.hasId()) {
+            nextId = Math.max(nextId, visit.getId() + 1);
+            return visit;
+        }
+        return visit.withId(nextId++);
+    }
+
+    private static Map<VisitTextField, VisitTextIndex> createTextIndexes() {
+        Map<VisitTextField, VisitTextIndex> textIndexes = new EnumMap<>(VisitTextField.class);
+        for (VisitTextField field : VisitTextField.values()) {
+            textIndexes.put(field, new VisitTextIndex(field));
+        }
+        return textIndexes;
+    }
+
+    private void addToIndexes(Visit visit) {
+        visitsByTime.computeIfAbsent(visit.getDateTime(), unused -> new ArrayList<>(1)).add(visit);
+        textIndexes.values().forEach(index -> index.add(visit));
+    }
+
+    private void removeFromIndexes(Visit visit) {
+        List<Visit> visitsAtTime = visitsByTime.get(visit.getDateTime());
+        visitsAtTime.remove(visit);
+        if (visitsAtTime.isEmpty()) {
+            visitsByTime.remove(visit.getDateTime());
+        }
+        textIndexes.values().forEach(index -> index.remove(visit));
+    }
+
+    /**
+     * Refreshes the recorded positions of the visits from {@code start} to the end of the list.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
         }
-        return true;
     }
 }
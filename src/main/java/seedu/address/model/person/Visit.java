@@ -2,15 +2,28 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Objects;
+
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Represents a Visit of a particular Person.
+ * The person is referred to by their NRIC, and is looked up through the person list when needed, so editing
+ * a person's other details leaves their visits untouched.
+ * <p>
+ * A visit is given an ID when it is added to a {@link UniqueVisitList}, which identifies it through later edits.
+ * The ID is not part of {@link #equals(Object)}, which compares visit details.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Visit {
+
+    /** The ID of a visit that has not been added to a visit list yet. */
+    public static final long NO_ID = 0;
+
+    private final long id;
+
     // Visit details: who, when, why, how
-    private final Person person;
+    private final Nric nric;
     private final DateTime dateTime;
     private final Remark remark;
     private final Symptom symptom;
@@ -19,16 +32,32 @@ public class Visit {
     private final FollowUp followUp;
 
     /**
-     * Every parameter must present and be non-null.
-     * @param person
+     * Every parameter except {@code dateTime} must be present and non-null.
+     * A null {@code dateTime} is taken to be the current time.
+     * @param nric NRIC of the person visiting.
      * @param dateTime
      * @param remark
      */
-    public Visit(Person person, DateTime dateTime, Remark remark,
+    public Visit(Nric nric, DateTime dateTime, Remark remark,
                  Symptom symptom, Diagnosis diagnosis,
                  Medication medication, FollowUp followUp) {
-        requireAllNonNull(person, remark, symptom, diagnosis, medication, followUp);
-        this.person = person;
+        this(NO_ID, nric, dateTime, remark, symptom, diagnosis, medication, followUp);
+    }
+
+    /**
+     * Creates a visit with the given {@code id}, such as one read back from storage.
+     *
+     * @see #Visit(Nric, DateTime, Remark, Symptom, Diagnosis, Medication, FollowUp)
+     */
+    public Visit(long id, Nric nric, DateTime dateTime, Remark remark,
+                 Symptom symptom, Diagnosis diagnosis,
+                 Medication medication, FollowUp followUp) {
+        requireAllNonNull(nric, remark, symptom, diagnosis, medication, followUp);
+        if (id < NO_ID) {
+            throw new IllegalArgumentException("Visit IDs cannot be negative");
+        }
+        this.id = id;
+        this.nric = nric;
         this.dateTime = (dateTime != null) ? dateTime : DateTime.now();
         this.remark = remark;
         this.symptom = symptom;
@@ -37,12 +66,33 @@ public class Visit {
         this.followUp = followUp;
     }
 
-    public Person getPerson() {
-        return person;
+    /**
+     * Creates a visit of {@code person}.
+     *
+     * @see #Visit(Nric, DateTime, Remark, Symptom, Diagnosis, Medication, FollowUp)
+     */
+    public Visit(Person person, DateTime dateTime, Remark remark,
+                 Symptom symptom, Diagnosis diagnosis,
+                 Medication medication, FollowUp followUp) {
+        this(person.getNric(), dateTime, remark, symptom, diagnosis, medication, followUp);
+    }
+
+    /**
+     * Returns the ID of this visit, or {@code NO_ID} if it has not been added to a visit list.
+     */
+    public long getId() {
+        return id;
     }
 
+    public boolean hasId() {
+        return id != NO_ID;
+    }
+
+    /**
+     * Returns the NRIC of the person visiting.
+     */
     public Nric getNric() {
-        return person.getNric();
+        return nric;
     }
 
     public DateTime getDateTime() {
@@ -69,8 +119,18 @@ public class Visit {
         return followUp;
     }
 
-    public Visit withPerson(Person newPerson) {
-        return new Visit(newPerson, dateTime, remark, symptom, diagnosis, medication, followUp);
+    /**
+     * Returns a copy of this visit that belongs to the person with {@code newNric}.
+     */
+    public Visit withNric(Nric newNric) {
+        return new Visit(id, newNric, dateTime, remark, symptom, diagnosis, medication, followUp);
+    }
+
+    /**
+     * Returns a copy of this visit with ID {@code newId}.
+     */
+    public Visit withId(long newId) {
+        return new Visit(newId, nric, dateTime, remark, symptom, diagnosis, medication, followUp);
     }
 
     @Override
@@ -82,7 +142,7 @@ public class Visit {
             return false;
         }
         Visit o = (Visit) other;
-        return person.equals(o.person)
+        return nric.equals(o.nric)
                 && dateTime.equals(o.dateTime)
                 && remark.equals(o.remark)
                 && symptom.equals(o.symptom)
@@ -91,10 +151,16 @@ public class Visit {
                 && followUp.equals(o.followUp);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(nric, dateTime, remark, symptom, diagnosis, medication, followUp);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("person", person)
+                .add("id", id)
+                .add("nric", nric)
                 .add("dateTime", dateTime)
                 .add("remark", remark)
                 .add("symptom", symptom)
@@ -0,0 +1,136 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Describes the visits to look up through the indexes of a {@code MedLogger}: those of a person, in a time range,
+ * whose searched details contain the given texts, ignoring case.
+ * Guarantees: immutable.
+ */
+public class VisitQuery {
+
+    /** The query that every visit matches. */
+    public static final VisitQuery ALL = new VisitQuery(null, null, Map.of());
+
+    private final Nric nric;
+    private final DateTime from;
+    private final DateTime to;
+    private final Map<VisitTextField, String> lowerCaseTexts;
+
+    /**
+     * Creates a query for the visits from {@code from} to {@code to}, both inclusive, whose details contain the
+     * mapped texts. A null bound leaves that end of the range open.
+     */
+    public VisitQuery(DateTime from, DateTime to, Map<VisitTextField, String> texts) {
+        this(null, from, to, texts);
+    }
+
+    /**
+     * Creates a query for the visits of the person with {@code nric} from {@code from} to {@code to}, both
+     * inclusive, whose details contain the mapped texts. A null {@code nric} matches the visits of every person,
+     * and a null bound leaves that end of the range open.
+     */
+    public VisitQuery(Nric nric, DateTime from, DateTime to, Map<VisitTextField, String> texts) {
+        requireNonNull(texts);
+        this.nric = nric;
+        this.from = from;
+        this.to = to;
+        Map<VisitTextField, String> lowerCaseTexts = new EnumMap<>(VisitTextField.class);
+        texts.forEach((field, text) -> lowerCaseTexts.put(field, text.toLowerCase()));
+        this.lowerCaseTexts = Collections.unmodifiableMap(lowerCaseTexts);
+    }
+
+    /**
+     * Returns a query for all the visits of the person with {@code nric}.
+     */
+    public static VisitQuery forPerson(Nric nric) {
+        requireNonNull(nric);
+        return new VisitQuery(nric, null, null, Map.of());
+    }
+
+    public Nric getNric() {
+        return nric;
+    }
+
+    public DateTime getFrom() {
+        return from;
+    }
+
+    public DateTime getTo() {
+        return to;
+    }
+
+    /**
+     * Returns the texts searched for, in lower case.
+     */
+    public Map<VisitTextField, String> getLowerCaseTexts() {
+        return lowerCaseTexts;
+    }
+
+    /**
+     * Returns true if every visit matches this query.
+     */
+    public boolean isAll() {
+        return nric == null && from == null && to == null && lowerCaseTexts.isEmpty();
+    }
+
+    /**
+     * Returns true if {@code visit} is of the person, is in the time range and its details contain the searched texts.
+     */
+    public boolean matches(Visit visit) {
+        requireNonNull(visit);
+        if (nric != null && !visit.getNric().equals(nric)) {
+            return false;
+        }
+        DateTime dateTime = visit.getDateTime();
+        if ((from != null && dateTime.compareTo(from) < 0) || (to != null && dateTime.compareTo(to) > 0)) {
+            return false;
+        }
+        for (Map.Entry<VisitTextField, String> entry : lowerCaseTexts.entrySet()) {
+            if (!entry.getKey().getText(visit).toLowerCase().contains(entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof VisitQuery)) {
+            return false;
+        }
+
+        VisitQuery otherQuery = (VisitQuery) other;
+        return Objects.equals(nric, otherQuery.nric)
+                && Objects.equals(from, otherQuery.from)
+                && Objects.equals(to, otherQuery.to)
+                && lowerCaseTexts.equals(otherQuery.lowerCaseTexts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nric, from, to, lowerCaseTexts);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("nric", nric)
+                .add("from", from)
+                .add("to", to)
+                .add("texts", lowerCaseTexts)
+                .toString();
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.model.person;
+
+import java.util.function.Function;
+
+/**
+ * The free-text details of a visit that can be searched for.
+ */
+public enum VisitTextField {
+    SYMPTOM(visit -> visit.getSymptom().value),
+    DIAGNOSIS(visit -> visit.getDiagnosis().value),
+    MEDICATION(visit -> visit.getMedication().value);
+
+    private final Function<Visit, String> getter;
+
+    VisitTextField(Function<Visit, String> getter) {
+        this.getter = getter;
+    }
+
+    /**
+     * Returns the text of this detail of {@code visit}.
+     */
+    public String getText(Visit visit) {
+        return getter.apply(visit);
+    }
+}
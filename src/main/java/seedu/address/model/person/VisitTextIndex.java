@@ -0,0 +1,126 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from the text of one detail of each visit to the IDs of the visits, for case-insensitive substring search.
+ * <p>
+ * The lower-case text of each visit is split into its trigrams, the substrings of three characters, and each trigram
+ * is mapped to the visits whose text contains it. A visit containing the searched text must contain every trigram of
+ * it, so only the visits in all of their posting lists are candidates, and only those are checked against the text.
+ * Text shorter than a trigram has none, so searching for it checks every visit, though still without lower-casing
+ * their text again.
+ */
+class VisitTextIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final VisitTextField field;
+    private final Map<Long, String> lowerCaseTextsById = new HashMap<>();
+    private final Map<String, Set<Long>> idsByTrigram = new HashMap<>();
+
+    VisitTextIndex(VisitTextField field) {
+        requireNonNull(field);
+        this.field = field;
+    }
+
+    /**
+     * Adds {@code visit}, which must have an ID, to the index.
+     */
+    void add(Visit visit) {
+        String lowerCaseText = field.getText(visit).toLowerCase();
+        lowerCaseTextsById.put(visit.getId(), lowerCaseText);
+        for (String trigram : getTrigrams(lowerCaseText)) {
+            idsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(visit.getId());
+        }
+    }
+
+    /**
+     * Removes {@code visit}, which must have been added with the same ID and text, from the index.
+     */
+    void remove(Visit visit) {
+        String lowerCaseText = lowerCaseTextsById.remove(visit.getId());
+        if (lowerCaseText == null) {
+            return;
+        }
+        for (String trigram : getTrigrams(lowerCaseText)) {
+            Set<Long> ids = idsByTrigram.get(trigram);
+            ids.remove(visit.getId());
+            if (ids.isEmpty()) {
+                idsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes every visit from the index.
+     */
+    void clear() {
+        lowerCaseTextsById.clear();
+        idsByTrigram.clear();
+    }
+
+    /**
+     * Returns the IDs of the visits whose text contains {@code lowerCaseQuery}, which must be in lower case.
+     */
+    Set<Long> search(String lowerCaseQuery) {
+        requireNonNull(lowerCaseQuery);
+        Set<String> trigrams = getTrigrams(lowerCaseQuery);
+        if (trigrams.isEmpty()) {
+            return getIdsContaining(lowerCaseQuery, lowerCaseTextsById.keySet());
+        }
+
+        List<Set<Long>> postingLists = new ArrayList<>(trigrams.size());
+        for (String trigram : trigrams) {
+            Set<Long> ids = idsByTrigram.get(trigram);
+            if (ids == null) {
+                return new HashSet<>();
+            }
+            postingLists.add(ids);
+        }
+        postingLists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> candidates = new HashSet<>();
+        for (Long id : postingLists.get(0)) {
+            if (isInAll(id, postingLists)) {
+                candidates.add(id);
+            }
+        }
+        return getIdsContaining(lowerCaseQuery, candidates);
+    }
+
+    private Set<Long> getIdsContaining(String lowerCaseQuery, Set<Long> candidates) {
+        Set<Long> ids = new HashSet<>();
+        for (Long id : candidates) {
+            if (lowerCaseTextsById.get(id).contains(lowerCaseQuery)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static boolean isInAll(Long id, List<Set<Long>> postingLists) {
+        for (int i = 1; i < postingLists.size(); i++) {
+            if (!postingLists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> getTrigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,324 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.MedLogger;
+import seedu.address.model.person.Visit;
+
+/**
+ * Reads a MedLogger data file written by {@link BinaryMedLoggerWriter}, which describes the format.
+ * Records are converted into model objects in batches, with the same validation as JSON data files.
+ * Every occurrence of a deduplicated string is read as the same {@code String} instance.
+ * <p>
+ * The file is read a chunk at a time into a single buffer, which is reused for every chunk, so a large file is
+ * never copied onto the heap as a whole. The file is closed as soon as it is read, so it can be replaced by the
+ * next save on every platform, which is not the case while a memory mapping of it is still reachable.
+ */
+class BinaryMedLoggerReader {
+
+    /** The first four bytes of every binary data file, "MLGB" in ASCII. */
+    static final int MAGIC = 0x4d4c4742;
+    static final int FORMAT_VERSION = 1;
+
+    static final String MESSAGE_CHECKSUM_MISMATCH = "Data file does not match its checksum, so it may be corrupted.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Data file was saved in format version %d, "
+            + "which this version of MedLogger cannot read.";
+    static final String MESSAGE_MALFORMED = "Data file is not a valid binary MedLogger data file.";
+    static final String MESSAGE_TOO_LARGE = "Data file is too large to be read.";
+
+    /** The most bytes of a file that are held in memory at a time. */
+    static final int CHUNK_SIZE = 1024 * 1024;
+
+    private static final int HEADER_SIZE = 8;
+    private static final int CHECKSUM_SIZE = 4;
+    private static final int BATCH_SIZE = 4096;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final int dataEnd;
+    private final List<String> strings = new ArrayList<>();
+    private byte[] stringBytes = new byte[64];
+    /** The position in the file of the first byte in {@code buffer}. */
+    private int bufferStart;
+
+    /**
+     * Creates a reader of the data in the first {@code dataEnd} bytes of {@code channel}, read into {@code buffer}.
+     */
+    private BinaryMedLoggerReader(FileChannel channel, ByteBuffer buffer, int dataEnd) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.dataEnd = dataEnd;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@code MAGIC}.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            byte[] header = inputStream.readNBytes(Integer.BYTES);
+            return header.length == Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC;
+        }
+    }
+
+    /**
+     * Reads the MedLogger stored in the binary file at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read, is not a binary data file, or does not match its checksum.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static MedLogger read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, CHUNK_SIZE);
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, but holds at most {@code chunkSize} bytes of the file in memory at a time.
+     */
+    static MedLogger read(Path filePath, int chunkSize) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_TOO_LARGE);
+            }
+            if (size < HEADER_SIZE + CHECKSUM_SIZE) {
+                throw new IOException(MESSAGE_MALFORMED);
+            }
+            int dataEnd = (int) size - CHECKSUM_SIZE;
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size, Math.max(chunkSize, HEADER_SIZE)));
+            verifyChecksum(channel, buffer, dataEnd);
+
+            channel.position(0);
+            buffer.clear().limit(0);
+            try {
+                return new BinaryMedLoggerReader(channel, buffer, dataEnd).readData();
+            } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+                throw new IOException(MESSAGE_MALFORMED, e);
+            }
+        }
+    }
+
+    /**
+     * Checks that the first {@code dataEnd} bytes of {@code channel} match the checksum that follows them,
+     * reading them into {@code buffer} a chunk at a time.
+     */
+    private static void verifyChecksum(FileChannel channel, ByteBuffer buffer, int dataEnd) throws IOException {
+        CRC32 crc = new CRC32();
+        for (int position = 0; position < dataEnd; position += buffer.limit()) {
+            buffer.clear().limit(Math.min(buffer.capacity(), dataEnd - position));
+            readFully(channel, buffer);
+            crc.update(buffer);
+        }
+        buffer.clear().limit(CHECKSUM_SIZE);
+        readFully(channel, buffer);
+        if ((int) crc.getValue() != buffer.getInt()) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+    }
+
+    /**
+     * Fills the rest of {@code buffer} from {@code channel}, and flips it to be read from.
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) {
+                // The file became shorter while it was being read.
+                throw new IOException(MESSAGE_MALFORMED);
+            }
+        }
+        buffer.flip();
+    }
+
+    private MedLogger readData() throws IOException, IllegalValueException {
+        if (getInt() != MAGIC) {
+            throw new IOException(MESSAGE_MALFORMED);
+        }
+        int version = getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        JsonMedLoggerAssembler assembler = new JsonMedLoggerAssembler();
+        int personCount = readVarInt();
+        List<JsonAdaptedPerson> persons = new ArrayList<>(Math.min(personCount, BATCH_SIZE));
+        for (int i = 0; i < personCount; i++) {
+            int recordEnd = readRecordEnd();
+            persons.add(readPerson());
+            endRecord(recordEnd);
+            if (persons.size() == BATCH_SIZE) {
+                assembler.addPersons(persons);
+                persons = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        assembler.addPersons(persons);
+
+        int visitCount = readVarInt();
+        List<JsonAdaptedVisit> visits = new ArrayList<>(Math.min(visitCount, BATCH_SIZE));
+        for (int i = 0; i < visitCount; i++) {
+            int recordEnd = readRecordEnd();
+            visits.add(readVisit(recordEnd));
+            endRecord(recordEnd);
+            if (visits.size() == BATCH_SIZE) {
+                assembler.addVisits(visits);
+                visits = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        assembler.addVisits(visits);
+
+        if (remaining() > 0) {
+            throw new IOException(MESSAGE_MALFORMED);
+        }
+        return assembler.toMedLogger();
+    }
+
+    private JsonAdaptedPerson readPerson() throws IOException {
+        String name = readString();
+        String nric = readString();
+        String phone = readString();
+        String email = readString();
+        String address = readString();
+        String remark = readString();
+        int tagCount = readVarInt();
+        List<JsonAdaptedTag> tags = new ArrayList<>(Math.min(tagCount, remaining()));
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(readString()));
+        }
+        return new JsonAdaptedPerson(name, nric, phone, email, address, remark, tags);
+    }
+
+    private JsonAdaptedVisit readVisit(int recordEnd) throws IOException {
+        String nric = readString();
+        String dateTime = readString();
+        String remark = readString();
+        String symptom = readString();
+        String diagnosis = readString();
+        String medication = readString();
+        String followUp = readString();
+        // Visits written before visits had IDs end here.
+        long id = position() < recordEnd ? readVarLong() : Visit.NO_ID;
+        return new JsonAdaptedVisit(id == Visit.NO_ID ? null : id, nric, dateTime, remark, symptom, diagnosis,
+                medication, followUp);
+    }
+
+    /**
+     * Reads the length prefix of a record, and returns the position where the record ends.
+     */
+    private int readRecordEnd() throws IOException {
+        int length = readVarInt();
+        if (length > remaining()) {
+            throw new IOException(MESSAGE_MALFORMED);
+        }
+        return position() + length;
+    }
+
+    /**
+     * Moves past the rest of a record that ends at {@code recordEnd}, skipping any fields this version does not
+     * know about.
+     */
+    private void endRecord(int recordEnd) throws IOException {
+        if (position() > recordEnd) {
+            throw new IOException(MESSAGE_MALFORMED);
+        }
+        while (position() < recordEnd) {
+            fillBuffer(1);
+            buffer.position(buffer.position() + Math.min(buffer.remaining(), recordEnd - position()));
+        }
+    }
+
+    private String readString() throws IOException {
+        int reference = readVarInt();
+        if (reference > 0) {
+            return strings.get(reference - 1);
+        }
+
+        int length = readVarInt();
+        if (length > remaining()) {
+            throw new IOException(MESSAGE_MALFORMED);
+        }
+        if (length > stringBytes.length) {
+            stringBytes = new byte[Math.max(length, stringBytes.length * 2)];
+        }
+        int copied = 0;
+        while (copied < length) {
+            fillBuffer(1);
+            int count = Math.min(buffer.remaining(), length - copied);
+            buffer.get(stringBytes, copied, count);
+            copied += count;
+        }
+        String value = new String(stringBytes, 0, length, StandardCharsets.UTF_8);
+        strings.add(value);
+        return value;
+    }
+
+    private int readVarInt() throws IOException {
+        long value = readVarLong();
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException(MESSAGE_MALFORMED);
+        }
+        return (int) value;
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            fillBuffer(1);
+            byte b = buffer.get();
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0) {
+                if (value < 0) {
+                    throw new IOException(MESSAGE_MALFORMED);
+                }
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_MALFORMED);
+    }
+
+    /**
+     * Returns the position in the file of the next byte to be read.
+     */
+    private int position() {
+        return bufferStart + buffer.position();
+    }
+
+    /**
+     * Returns the number of bytes of data left to be read.
+     */
+    private int remaining() {
+        return dataEnd - position();
+    }
+
+    private int getInt() throws IOException {
+        fillBuffer(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    /**
+     * Reads the next chunk of the file into the buffer, after the bytes not read yet, if fewer than {@code count}
+     * bytes are left in it.
+     *
+     * @throws BufferUnderflowException if there are fewer than {@code count} bytes of data left.
+     */
+    private void fillBuffer(int count) throws IOException {
+        if (buffer.remaining() >= count) {
+            return;
+        }
+        if (count > remaining()) {
+            throw new BufferUnderflowException();
+        }
+        bufferStart = position();
+        buffer.compact();
+        buffer.limit(Math.min(buffer.capacity(), dataEnd - bufferStart));
+        readFully(channel, buffer);
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyMedLogger;
+
+/**
+ * A class to access MedLogger data stored as a binary file on the hard disk.
+ * Binary files are smaller and faster to read and write than JSON files, but cannot be edited by hand.
+ * An existing JSON data file is also read, and is converted to a binary file the next time the data is saved.
+ */
+public class BinaryMedLoggerStorage implements MedLoggerStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryMedLoggerStorage.class);
+
+    private Path filePath;
+
+    public BinaryMedLoggerStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getMedLoggerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyMedLogger> readMedLogger() throws DataLoadingException {
+        return readMedLogger(filePath);
+    }
+
+    /**
+     * Similar to {@link #readMedLogger()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyMedLogger> readMedLogger(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (BinaryMedLoggerReader.isBinaryFile(filePath)) {
+                logger.info("Binary file " + filePath + " found.");
+                return Optional.of(BinaryMedLoggerReader.read(filePath));
+            }
+            logger.info("JSON file " + filePath + " found, which will be converted to a binary file when saved.");
+            return Optional.of(JsonMedLoggerStreamReader.read(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveMedLogger(ReadOnlyMedLogger medLogger) throws IOException {
+        saveMedLogger(medLogger, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveMedLogger(ReadOnlyMedLogger)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveMedLogger(ReadOnlyMedLogger medLogger, Path filePath) throws IOException {
+        requireNonNull(medLogger);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        BinaryMedLoggerWriter.write(medLogger, filePath);
+    }
+
+    @Override
+    public void saveMedLogger(ReadOnlyMedLogger medLogger, Path filePath, FileUtil.BeforeReplace beforeReplace)
+            throws IOException {
+        requireAllNonNull(medLogger, filePath, beforeReplace);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        BinaryMedLoggerWriter.write(medLogger, filePath, beforeReplace);
+    }
+
+}
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyMedLogger;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Visit;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes a MedLogger to a binary file, which {@link BinaryMedLoggerReader} reads.
+ * <p>
+ * The file starts with {@code BinaryMedLoggerReader.MAGIC} and {@code BinaryMedLoggerReader.FORMAT_VERSION},
+ * followed by the number of persons and the person records, then the number of visits and the visit records.
+ * Each record is prefixed with its length in bytes, so that readers can skip fields added by later versions.
+ * The file ends with a CRC32 checksum of every byte before it.
+ * <p>
+ * Counts, lengths and string references are written as variable-length unsigned integers, 7 bits per byte.
+ * Strings are deduplicated: the first time a string is written, reference 0 is written, followed by its
+ * length-prefixed UTF-8 bytes, and the string is given the next index in the string table. Later occurrences
+ * are written as their index plus one. Repeated diagnoses, medications, tags and the NRICs that link visits
+ * to their persons are therefore stored only once.
+ * <p>
+ * Each visit record ends with the visit's ID, as a variable-length unsigned long, or 0 if it has none. Files
+ * written before visits had IDs leave it out, and their visits are given IDs when read.
+ */
+class BinaryMedLoggerWriter {
+
+    private final DataOutputStream output;
+    private final CheckedOutputStream checkedOutput;
+    private final ByteArrayOutputStream record = new ByteArrayOutputStream();
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+
+    private BinaryMedLoggerWriter(OutputStream outputStream) {
+        checkedOutput = new CheckedOutputStream(outputStream, new CRC32());
+        output = new DataOutputStream(checkedOutput);
+    }
+
+    /**
+     * Writes {@code medLogger} to the file at {@code filePath}, atomically replacing its contents.
+     */
+    public static void write(ReadOnlyMedLogger medLogger, Path filePath) throws IOException {
+        write(medLogger, filePath, writtenFile -> {});
+    }
+
+    /**
+     * Similar to {@link #write(ReadOnlyMedLogger, Path)}, but runs {@code beforeReplace} on the written file before
+     * it replaces the contents of {@code filePath}.
+     */
+    public static void write(ReadOnlyMedLogger medLogger, Path filePath, FileUtil.BeforeReplace beforeReplace)
+            throws IOException {
+        FileUtil.writeAtomically(filePath, outputStream -> write(medLogger, outputStream), beforeReplace);
+    }
+
+    /**
+     * Writes {@code medLogger} to {@code outputStream}, and closes it.
+     */
+    public static void write(ReadOnlyMedLogger medLogger, OutputStream outputStream) throws IOException {
+        BinaryMedLoggerWriter writer = new BinaryMedLoggerWriter(outputStream);
+        try (DataOutputStream output = writer.output) {
+            writer.writeData(medLogger);
+        }
+    }
+
+    private void writeData(ReadOnlyMedLogger medLogger) throws IOException {
+        output.writeInt(BinaryMedLoggerReader.MAGIC);
+        output.writeInt(BinaryMedLoggerReader.FORMAT_VERSION);
+
+        writeVarInt(output, medLogger.getPersonList().size());
+        for (Person person : medLogger.getPersonList()) {
+            writePerson(person);
+            writeRecord();
+        }
+        writeVarInt(output, medLogger.getVisitList().size());
+        for (Visit visit : medLogger.getVisitList()) {
+            writeVisit(visit);
+            writeRecord();
+        }
+
+        output.writeInt((int) checkedOutput.getChecksum().getValue());
+    }
+
+    private void writePerson(Person person) throws IOException {
+        writeString(person.getName().fullName);
+        writeString(person.getNric().value);
+        writeString(person.getPhone().value);
+        writeString(person.getEmail().value);
+        writeString(person.getAddress().value);
+        writeString(person.getRemark().value);
+        writeVarInt(record, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeString(tag.tagName);
+        }
+    }
+
+    private void writeVisit(Visit visit) throws IOException {
+        writeString(visit.getNric().value);
+        writeString(visit.getDateTime().value);
+        writeString(visit.getRemark().value);
+        writeString(visit.getSymptom().value);
+        writeString(visit.getDiagnosis().value);
+        writeString(visit.getMedication().value);
+        writeString(visit.getFollowUp().value);
+        writeVarLong(record, visit.getId());
+    }
+
+    /**
+     * Writes the record built so far to the output, prefixed with its length, and starts a new record.
+     */
+    private void writeRecord() throws IOException {
+        writeVarInt(output, record.size());
+        record.writeTo(output);
+        record.reset();
+    }
+
+    /**
+     * Writes a reference to {@code value} to the current record, followed by {@code value} itself
+     * if it has not been written before.
+     */
+    private void writeString(String value) throws IOException {
+        Integer index = stringIndexes.get(value);
+        if (index != null) {
+            writeVarInt(record, index + 1);
+            return;
+        }
+
+        stringIndexes.put(value, stringIndexes.size());
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(record, 0);
+        writeVarInt(record, bytes.length);
+        record.write(bytes);
+    }
+
+    private static void writeVarInt(OutputStream outputStream, int value) throws IOException {
+        writeVarLong(outputStream, Integer.toUnsignedLong(value));
+    }
+
+    private static void writeVarLong(OutputStream outputStream, long value) throws IOException {
+        while ((value & ~0x7fL) != 0) {
+            outputStream.write((int) (value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        outputStream.write((int) value);
+    }
+}
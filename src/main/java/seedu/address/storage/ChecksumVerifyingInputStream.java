@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * An input stream over a JSON data file that checks the CRC32 checksum field at the end of the file,
+ * as the file is read.
+ * The checksum field must be the last field of the root object. Its value is the checksum, as 8 hex digits,
+ * of every byte before the comma that separates it from the previous field.
+ * <p>
+ * The last {@code TAIL_SIZE} bytes read are held back from the checksum until the end of the stream, where the
+ * checksum field is among them, so the file only needs to be read once.
+ */
+class ChecksumVerifyingInputStream extends FilterInputStream {
+
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Data file does not match its checksum, so it may be "
+            + "corrupted. If it was edited by hand, remove its %s field to load it.";
+
+    private static final int TAIL_SIZE = 256;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final String checksumField;
+    private final Pattern checksumPattern;
+    private final CRC32 crc = new CRC32();
+    private final byte[] tail = new byte[TAIL_SIZE];
+    private int tailLength;
+
+    /**
+     * Creates a {@code ChecksumVerifyingInputStream} over {@code in}, which checks the field named
+     * {@code checksumField}.
+     */
+    ChecksumVerifyingInputStream(InputStream in, String checksumField) {
+        super(in);
+        this.checksumField = checksumField;
+        this.checksumPattern = Pattern.compile("^\"" + Pattern.quote(checksumField) + "\"\\s*:\\s*\"([0-9a-f]{8})\"");
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] singleByte = new byte[1];
+        int bytesRead = read(singleByte, 0, 1);
+        return bytesRead == -1 ? -1 : singleByte[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int bytesRead = in.read(b, off, len);
+        if (bytesRead > 0) {
+            hold(b, off, bytesRead);
+        }
+        return bytesRead;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // Skipped bytes still have to be added to the checksum.
+        byte[] buffer = new byte[(int) Math.min(n, BUFFER_SIZE)];
+        long skipped = 0;
+        while (skipped < n) {
+            int bytesRead = read(buffer, 0, (int) Math.min(n - skipped, buffer.length));
+            if (bytesRead == -1) {
+                break;
+            }
+            skipped += bytesRead;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Reads the rest of the stream, then checks the checksum field against the bytes before it.
+     * Files without a checksum field, such as those saved before checksums were added, are accepted.
+     *
+     * @throws IOException if the stream cannot be read, or does not match its checksum.
+     */
+    public void verify() throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int bytesRead = read(buffer, 0, buffer.length);
+        while (bytesRead != -1) {
+            bytesRead = read(buffer, 0, buffer.length);
+        }
+
+        // ISO-8859-1 maps each byte to one character, so indexes in the text are indexes in the tail.
+        String tailText = new String(tail, 0, tailLength, StandardCharsets.ISO_8859_1);
+        int fieldStart = tailText.lastIndexOf("\"" + checksumField + "\"");
+        if (fieldStart == -1) {
+            return;
+        }
+
+        int separator = tailText.lastIndexOf(',', fieldStart);
+        Matcher matcher = checksumPattern.matcher(tailText.substring(fieldStart));
+        if (separator == -1 || !tailText.substring(separator + 1, fieldStart).isBlank() || !matcher.find()) {
+            throw new IOException(String.format(MESSAGE_CHECKSUM_MISMATCH, checksumField));
+        }
+        crc.update(tail, 0, separator);
+        if (Long.parseLong(matcher.group(1), 16) != crc.getValue()) {
+            throw new IOException(String.format(MESSAGE_CHECKSUM_MISMATCH, checksumField));
+        }
+    }
+
+    /**
+     * Appends {@code len} bytes of {@code b} to the held back tail, adding the bytes that no longer fit in the
+     * tail to the checksum.
+     */
+    private void hold(byte[] b, int off, int len) {
+        int overflow = tailLength + len - TAIL_SIZE;
+        if (overflow <= 0) {
+            System.arraycopy(b, off, tail, tailLength, len);
+            tailLength += len;
+            return;
+        }
+
+        int overflowFromTail = Math.min(overflow, tailLength);
+        int overflowFromBuffer = overflow - overflowFromTail;
+        crc.update(tail, 0, overflowFromTail);
+        crc.update(b, off, overflowFromBuffer);
+
+        int keptFromTail = tailLength - overflowFromTail;
+        System.arraycopy(tail, overflowFromTail, tail, 0, keptFromTail);
+        System.arraycopy(b, off + overflowFromBuffer, tail, keptFromTail, len - overflowFromBuffer);
+        tailLength = TAIL_SIZE;
+    }
+}
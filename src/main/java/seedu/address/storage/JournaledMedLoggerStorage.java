@@ -0,0 +1,434 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.MedLogger;
+import seedu.address.model.MedLoggerChange;
+import seedu.address.model.MedLoggerSnapshot;
+import seedu.address.model.ReadOnlyMedLogger;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.DuplicateVisitException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.person.exceptions.VisitNotFoundException;
+
+/**
+ * A {@code MedLoggerStorage} that records changes in an append-only journal next to the data file of another
+ * {@code MedLoggerStorage}, which holds a snapshot of the data.
+ * <p>
+ * Saving changes appends one JSON line per change to the journal and forces it to disk, so the cost of a save
+ * is proportional to the size of the changes rather than to the size of the data. Once the journal holds enough
+ * changes, or has not been compacted for a while, it is compacted into a fresh snapshot on a background thread.
+ * Reading the data replays the journals on top of the snapshot.
+ * <p>
+ * Before a snapshot replaces the data file, every journal it includes is ended with a record holding the
+ * snapshot's checksum. If the app stops before those journals are deleted, they are not replayed a second time.
+ */
+public class JournaledMedLoggerStorage implements MedLoggerStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final Duration DEFAULT_COMPACTION_INTERVAL = Duration.ofMinutes(10);
+    public static final String MESSAGE_INCONSISTENT_JOURNAL = "Journal does not match the data it is replayed on";
+
+    static final String JOURNAL_SUFFIX = ".journal";
+    static final String COMPACTING_SUFFIX = ".journal.compacting";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledMedLoggerStorage.class);
+
+    private final MedLoggerStorage snapshotStorage;
+    private final int compactionThreshold;
+    private final Duration compactionInterval;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+    private FileChannel journal;
+    private int journalSize;
+    private Instant lastCompactionTime = Instant.now();
+    private boolean hasSnapshot;
+
+    public JournaledMedLoggerStorage(MedLoggerStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD, DEFAULT_COMPACTION_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code JournaledMedLoggerStorage} that keeps its snapshots in {@code snapshotStorage}.
+     *
+     * @param compactionThreshold number of journaled changes after which the journal is compacted.
+     * @param compactionInterval time after the last compaction after which the journal is compacted.
+     */
+    public JournaledMedLoggerStorage(MedLoggerStorage snapshotStorage, int compactionThreshold,
+            Duration compactionInterval) {
+        requireAllNonNull(snapshotStorage, compactionInterval);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        this.compactionInterval = compactionInterval;
+    }
+
+    @Override
+    public Path getMedLoggerFilePath() {
+        return snapshotStorage.getMedLoggerFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyMedLogger> readMedLogger() throws DataLoadingException {
+        return readMedLogger(getMedLoggerFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays any journals next to it.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the snapshot or replaying the journals failed.
+     */
+    @Override
+    public Optional<ReadOnlyMedLogger> readMedLogger(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyMedLogger> snapshot = snapshotStorage.readMedLogger(filePath);
+        List<Path> journals = getExistingJournalPaths(filePath);
+        if (journals.isEmpty()) {
+            return snapshot;
+        }
+
+        // The snapshot storage returns data that nothing else refers to, so it can be replayed on directly.
+        MedLogger medLogger = snapshot.map(data -> data instanceof MedLogger ? (MedLogger) data : new MedLogger(data))
+                .orElseGet(MedLogger::new);
+        for (Path journalPath : journals) {
+            logger.info("Replaying journal " + journalPath);
+            try {
+                replay(journalPath, filePath, medLogger);
+            } catch (IOException ioe) {
+                logger.warning("Error reading from journal " + journalPath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+        return Optional.of(medLogger);
+    }
+
+    @Override
+    public void saveMedLogger(ReadOnlyMedLogger medLogger) throws IOException {
+        saveMedLogger(medLogger, getMedLoggerFilePath());
+    }
+
+    /**
+     * Saves a full snapshot of {@code medLogger} to {@code filePath}, and deletes the journals it replaces.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveMedLogger(ReadOnlyMedLogger medLogger, Path filePath) throws IOException {
+        requireAllNonNull(medLogger, filePath);
+
+        boolean isOwnFile = filePath.equals(getMedLoggerFilePath());
+        if (isOwnFile) {
+            awaitCompaction();
+            closeJournal();
+        }
+        writeSnapshot(medLogger, filePath, getExistingJournalPaths(filePath));
+        if (isOwnFile) {
+            hasSnapshot = true;
+            journalSize = 0;
+            lastCompactionTime = Instant.now();
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the journal, and starts compacting it in the background if it is due.
+     * The first save after the data is loaded always writes a full snapshot, so that the journal is only ever
+     * replayed on the data it was recorded against.
+     */
+    @Override
+    public synchronized void saveMedLoggerChanges(ReadOnlyMedLogger medLogger, List<MedLoggerChange> changes)
+            throws IOException {
+        requireAllNonNull(medLogger, changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        boolean hasReset = changes.stream().anyMatch(change -> change.getType() == MedLoggerChange.Type.RESET);
+        if (!hasSnapshot || hasReset || hasFailedCompaction()) {
+            saveMedLogger(medLogger);
+            return;
+        }
+
+        appendToJournal(toJournalLines(changes));
+        journalSize += changes.size();
+        if (isCompactionDue()) {
+            startCompaction(medLogger);
+        }
+    }
+
+    /**
+     * Deletes the journals before the snapshot, so that the journals are never left without their snapshot.
+     */
+    @Override
+    public void deleteMedLogger() throws IOException {
+        awaitCompaction();
+        closeJournal();
+        for (Path journalPath : getExistingJournalPaths(getMedLoggerFilePath())) {
+            Files.delete(journalPath);
+        }
+        snapshotStorage.deleteMedLogger();
+        journalSize = 0;
+        hasSnapshot = false;
+    }
+
+    /**
+     * Waits for the compaction in progress, if any, to finish.
+     */
+    void awaitCompaction() {
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Journal compaction failed: " + e.getCause());
+        }
+    }
+
+    static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    static Path getCompactingJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_SUFFIX);
+    }
+
+    /**
+     * Returns the journals next to {@code filePath}, in the order they should be replayed.
+     */
+    private static List<Path> getExistingJournalPaths(Path filePath) {
+        return List.of(getCompactingJournalPath(filePath), getJournalPath(filePath)).stream()
+                .filter(Files::exists)
+                .collect(Collectors.toList());
+    }
+
+    private boolean hasFailedCompaction() {
+        return compaction.isDone() && Files.exists(getCompactingJournalPath(getMedLoggerFilePath()));
+    }
+
+    private boolean isCompactionDue() {
+        return compaction.isDone() && (journalSize >= compactionThreshold
+                || Duration.between(lastCompactionTime, Instant.now()).compareTo(compactionInterval) >= 0);
+    }
+
+    /**
+     * Moves the journal aside and compacts it into a snapshot of {@code medLogger} on the background thread.
+     * New changes are appended to a fresh journal in the meantime.
+     */
+    private void startCompaction(ReadOnlyMedLogger medLogger) throws IOException {
+        // A plain copy of the lists is enough to write from, so the indexes are not built again.
+        ReadOnlyMedLogger snapshot = new MedLoggerSnapshot(medLogger);
+        Path filePath = getMedLoggerFilePath();
+        Path compactingPath = getCompactingJournalPath(filePath);
+
+        closeJournal();
+        Files.move(getJournalPath(filePath), compactingPath, StandardCopyOption.REPLACE_EXISTING);
+        journalSize = 0;
+        lastCompactionTime = Instant.now();
+
+        compaction = compactor.submit(() -> {
+            try {
+                writeSnapshot(snapshot, filePath, List.of(compactingPath));
+                logger.fine("Compacted journal into " + filePath);
+            } catch (IOException ioe) {
+                logger.warning("Failed to compact journal " + compactingPath + ": " + ioe);
+            }
+        });
+    }
+
+    /**
+     * Replaces the data file at {@code filePath} with a snapshot of {@code medLogger}, then deletes
+     * {@code journals}, which must all be included in the snapshot.
+     * The snapshot storage writes the snapshot atomically. Once it is on disk, and before it replaces the data
+     * file, every journal is ended with a record of its checksum.
+     */
+    private void writeSnapshot(ReadOnlyMedLogger medLogger, Path filePath, List<Path> journals) throws IOException {
+        snapshotStorage.saveMedLogger(medLogger, filePath, writtenFile -> {
+            if (journals.isEmpty()) {
+                return;
+            }
+            byte[] marker = toJournalLine(generator ->
+                    JsonAdaptedMedLoggerChange.writeSnapshotJson(checksumOf(writtenFile), generator));
+            for (Path journalPath : journals) {
+                try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND)) {
+                    write(channel, marker);
+                }
+            }
+        });
+        for (Path journalPath : journals) {
+            Files.deleteIfExists(journalPath);
+        }
+    }
+
+    private void appendToJournal(byte[] lines) throws IOException {
+        if (journal == null) {
+            journal = FileChannel.open(getJournalPath(getMedLoggerFilePath()), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        long sizeBefore = journal.size();
+        try {
+            write(journal, lines);
+        } catch (IOException ioe) {
+            // Drop any partly written record, so that later records are not appended after it.
+            try {
+                journal.truncate(sizeBefore);
+            } catch (IOException e) {
+                ioe.addSuppressed(e);
+            }
+            throw ioe;
+        }
+    }
+
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    /**
+     * Writes all of {@code bytes} to {@code channel} and forces them to disk.
+     */
+    private static void write(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Replays the records of the journal at {@code journalPath} on {@code medLogger}, skipping those already
+     * included in the snapshot at {@code snapshotPath}.
+     */
+    private static void replay(Path journalPath, Path snapshotPath, MedLogger medLogger)
+            throws IOException, IllegalValueException {
+        List<JsonAdaptedMedLoggerChange> records = readJournal(journalPath);
+
+        int start = 0;
+        for (int i = records.size() - 1; i >= 0; i--) {
+            Long checksum = records.get(i).getChecksum();
+            if (checksum != null && Files.exists(snapshotPath) && checksum == checksumOf(snapshotPath)) {
+                start = i + 1;
+                break;
+            }
+        }
+
+        for (JsonAdaptedMedLoggerChange record : records.subList(start, records.size())) {
+            if (record.isSnapshotMarker()) {
+                continue;
+            }
+            try {
+                record.toModelType(medLogger).applyTo(medLogger);
+            } catch (DuplicatePersonException | PersonNotFoundException
+                    | DuplicateVisitException | VisitNotFoundException e) {
+                throw new IllegalValueException(MESSAGE_INCONSISTENT_JOURNAL);
+            }
+        }
+    }
+
+    /**
+     * Returns the records in the journal at {@code journalPath}.
+     * An incomplete last record, left behind if the app stopped while appending it, is ignored.
+     */
+    private static List<JsonAdaptedMedLoggerChange> readJournal(Path journalPath) throws IOException {
+        List<JsonAdaptedMedLoggerChange> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                if (!line.isBlank()) {
+                    try {
+                        records.add(JsonUtil.fromJsonString(line, JsonAdaptedMedLoggerChange.class));
+                    } catch (IOException ioe) {
+                        if (nextLine != null) {
+                            throw ioe;
+                        }
+                        logger.warning("Ignoring incomplete last record in journal " + journalPath);
+                    }
+                }
+                line = nextLine;
+            }
+        }
+        return records;
+    }
+
+    private static byte[] toJournalLines(List<MedLoggerChange> changes) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        for (MedLoggerChange change : changes) {
+            lines.write(toJournalLine(generator -> JsonAdaptedMedLoggerChange.writeJson(change, generator)));
+        }
+        return lines.toByteArray();
+    }
+
+    private static byte[] toJournalLine(RecordWriter recordWriter) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(line, false)) {
+            recordWriter.write(generator);
+        }
+        line.write('\n');
+        return line.toByteArray();
+    }
+
+    private static long checksumOf(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            int bytesRead = inputStream.read(buffer);
+            while (bytesRead != -1) {
+                crc.update(buffer, 0, bytesRead);
+                bytesRead = inputStream.read(buffer);
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Writes a single journal record to a generator.
+     */
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+}
@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.MedLogger;
+import seedu.address.model.MedLoggerChange;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Visit;
+
+/**
+ * Jackson-friendly version of a {@link MedLoggerChange}, as recorded in a journal.
+ * Persons and visits are resolved against the data the change is applied to, so a recorded change
+ * can only be converted back once every change before it has been applied.
+ */
+class JsonAdaptedMedLoggerChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_TYPE = "Journal record has an unknown type: %s";
+    public static final String MESSAGE_NO_PERSON = "Journal record refers to a person who does not exist";
+
+    /** Type of the record that marks the snapshot a journal was compacted into. */
+    static final String SNAPSHOT_TYPE = "SNAPSHOT";
+
+    private final String type;
+    private final String nric;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedVisit targetVisit;
+    private final JsonAdaptedVisit visit;
+    private final Long checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedMedLoggerChange} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedMedLoggerChange(@JsonProperty("type") String type, @JsonProperty("NRIC") String nric,
+            @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("targetVisit") JsonAdaptedVisit targetVisit,
+            @JsonProperty("visit") JsonAdaptedVisit visit, @JsonProperty("checksum") Long checksum) {
+        this.type = type;
+        this.nric = nric;
+        this.person = person;
+        this.targetVisit = targetVisit;
+        this.visit = visit;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Writes {@code change} to {@code generator} as a JSON object with the same fields as this class.
+     * Only the fields needed to replay the change are written.
+     *
+     * @throws IllegalArgumentException if {@code change} is a reset, which cannot be journaled.
+     */
+    public static void writeJson(MedLoggerChange change, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", change.getType().name());
+        switch (change.getType()) {
+        case ADD_PERSON:
+            generator.writeFieldName("person");
+            JsonAdaptedPerson.writeJson(change.getPerson(), generator);
+            break;
+        case SET_PERSON:
+            generator.writeStringField("NRIC", change.getTargetPerson().getNric().value);
+            generator.writeFieldName("person");
+            JsonAdaptedPerson.writeJson(change.getPerson(), generator);
+            break;
+        case REMOVE_PERSON:
+            generator.writeStringField("NRIC", change.getTargetPerson().getNric().value);
+            break;
+        case ADD_VISIT:
+            generator.writeFieldName("visit");
+            JsonAdaptedVisit.writeJson(change.getVisit(), generator);
+            break;
+        case SET_VISIT:
+            generator.writeFieldName("targetVisit");
+            JsonAdaptedVisit.writeJson(change.getTargetVisit(), generator);
+            generator.writeFieldName("visit");
+            JsonAdaptedVisit.writeJson(change.getVisit(), generator);
+            break;
+        case REMOVE_VISIT:
+            generator.writeFieldName("targetVisit");
+            JsonAdaptedVisit.writeJson(change.getTargetVisit(), generator);
+            break;
+        case CLEAR_VISITS:
+            break;
+        default:
+            throw new IllegalArgumentException("Cannot journal a change of type " + change.getType());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a record marking that the journal has been compacted into the snapshot with the given checksum.
+     */
+    public static void writeSnapshotJson(long checksum, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", SNAPSHOT_TYPE);
+        generator.writeNumberField("checksum", checksum);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns true if this record marks a snapshot rather than describing a change.
+     */
+    public boolean isSnapshotMarker() {
+        return SNAPSHOT_TYPE.equals(type);
+    }
+
+    /**
+     * Returns the checksum of the snapshot marked by this record, or null if it does not mark a snapshot.
+     */
+    public Long getChecksum() {
+        return isSnapshotMarker() ? checksum : null;
+    }
+
+    /**
+     * Converts this record into the model's {@code MedLoggerChange}, resolving persons and visits
+     * against {@code medLogger}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record,
+     *     or it refers to a person not in {@code medLogger}.
+     */
+    public MedLoggerChange toModelType(MedLogger medLogger) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        final MedLoggerChange.Type modelType;
+        try {
+            modelType = MedLoggerChange.Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+
+        switch (modelType) {
+        case ADD_PERSON:
+            return MedLoggerChange.addPerson(requireField(person, "person").toModelType());
+        case SET_PERSON:
+            return MedLoggerChange.setPerson(getTargetPerson(medLogger),
+                    requireField(person, "person").toModelType());
+        case REMOVE_PERSON:
+            return MedLoggerChange.removePerson(getTargetPerson(medLogger));
+        case ADD_VISIT:
+            return MedLoggerChange.addVisit(toVisit(requireField(visit, "visit"), medLogger));
+        case SET_VISIT:
+            return MedLoggerChange.setVisit(toVisit(requireField(targetVisit, "targetVisit"), medLogger),
+                    toVisit(requireField(visit, "visit"), medLogger));
+        case REMOVE_VISIT:
+            return MedLoggerChange.removeVisit(toVisit(requireField(targetVisit, "targetVisit"), medLogger));
+        case CLEAR_VISITS:
+            return MedLoggerChange.clearVisits();
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+    }
+
+    private Person getTargetPerson(MedLogger medLogger) throws IllegalValueException {
+        if (nric == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Nric.class.getSimpleName()));
+        }
+        if (!Nric.isValidNric(nric)) {
+            throw new IllegalValueException(Nric.MESSAGE_CONSTRAINTS);
+        }
+        return medLogger.getPersonByNric(new Nric(nric))
+                .orElseThrow(() -> new IllegalValueException(MESSAGE_NO_PERSON));
+    }
+
+    private static Visit toVisit(JsonAdaptedVisit adaptedVisit, MedLogger medLogger) throws IllegalValueException {
+        Person visitPerson = medLogger.getPersonByNric(adaptedVisit.getNric())
+                .orElseThrow(() -> new IllegalValueException(MESSAGE_NO_PERSON));
+        return adaptedVisit.toModelType(visitPerson);
+    }
+
+    private static <T> T requireField(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+}
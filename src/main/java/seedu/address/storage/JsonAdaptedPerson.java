@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
@@ -68,6 +70,26 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Writes {@code source} to {@code generator} as a JSON object with the same fields as this class,
+     * without creating an intermediate {@code JsonAdaptedPerson}.
+     */
+    public static void writeJson(Person source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", source.getName().fullName);
+        generator.writeStringField("NRIC", source.getNric().value);
+        generator.writeStringField("phone", source.getPhone().value);
+        generator.writeStringField("email", source.getEmail().value);
+        generator.writeStringField("address", source.getAddress().value);
+        generator.writeStringField("remark", source.getRemark().value);
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : source.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
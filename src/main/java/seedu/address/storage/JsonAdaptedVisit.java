@@ -1,7 +1,10 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.DateTime;
@@ -20,7 +23,9 @@ import seedu.address.model.person.Visit;
 class JsonAdaptedVisit {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Visit's %s field is missing!";
+    public static final String MESSAGE_INVALID_ID = "Visit IDs must be positive numbers";
 
+    private final Long id;
     private final String nric;
     private final String dateTime;
     private final String remark;
@@ -32,15 +37,18 @@ class JsonAdaptedVisit {
 
     /**
      * Constructs a {@code JsonAdaptedVisit} with the given visit details.
+     * {@code id} is null for visits saved before visits had IDs.
      */
     @JsonCreator
-    public JsonAdaptedVisit(@JsonProperty("NRIC") String nric,
+    public JsonAdaptedVisit(@JsonProperty("id") Long id,
+                            @JsonProperty("NRIC") String nric,
                             @JsonProperty("dateTime") String dateTime,
                             @JsonProperty("remark") String remark,
                             @JsonProperty("symptom") String symptom,
                             @JsonProperty("diagnosis") String diagnosis,
                             @JsonProperty("medication") String medication,
                             @JsonProperty("followUp") String followUp) {
+        this.id = id;
         this.nric = nric;
         this.dateTime = dateTime;
         this.remark = remark;
@@ -54,6 +62,7 @@ class JsonAdaptedVisit {
      * Converts a given {@code Visit} into this class for Jackson use.
      */
     public JsonAdaptedVisit(Visit source) {
+        id = source.hasId() ? source.getId() : null;
         nric = source.getNric().value;
         dateTime = source.getDateTime().value;
         remark = source.getRemark().value;
@@ -63,6 +72,25 @@ class JsonAdaptedVisit {
         followUp = source.getFollowUp().value;
     }
 
+    /**
+     * Writes {@code source} to {@code generator} as a JSON object with the same fields as this class,
+     * without creating an intermediate {@code JsonAdaptedVisit}.
+     */
+    public static void writeJson(Visit source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        if (source.hasId()) {
+            generator.writeNumberField("id", source.getId());
+        }
+        generator.writeStringField("NRIC", source.getNric().value);
+        generator.writeStringField("dateTime", source.getDateTime().value);
+        generator.writeStringField("remark", source.getRemark().value);
+        generator.writeStringField("symptom", source.getSymptom().value);
+        generator.writeStringField("diagnosis", source.getDiagnosis().value);
+        generator.writeStringField("medication", source.getMedication().value);
+        generator.writeStringField("followUp", source.getFollowUp().value);
+        generator.writeEndObject();
+    }
+
     public Nric getNric() throws IllegalValueException {
         if (nric == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Nric.class.getSimpleName()));
@@ -79,6 +107,12 @@ class JsonAdaptedVisit {
      * @throws IllegalValueException if there were any data constraints violated in the adapted visit.
      */
     public Visit toModelType(Person person) throws IllegalValueException {
+        // Handle id, which is assigned when the visit is added to a MedLogger if missing
+        if (id != null && id <= Visit.NO_ID) {
+            throw new IllegalValueException(MESSAGE_INVALID_ID);
+        }
+        final long modelId = id != null ? id : Visit.NO_ID;
+
         // Handle dateTime
         final DateTime modelDateTime;
         if (dateTime == null) {
@@ -101,7 +135,7 @@ class JsonAdaptedVisit {
         final Medication modelMedication = new Medication(medication != null ? medication : "");
         final FollowUp modelFollowUp = new FollowUp(followUp != null ? followUp : "");
 
-        return new Visit(person, modelDateTime, modelRemark,
+        return new Visit(modelId, person.getNric(), modelDateTime, modelRemark,
                 modelSymptom, modelDiagnosis, modelMedication, modelFollowUp);
     }
 }
@@ -0,0 +1,131 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonSerializableMedLogger.MESSAGE_DUPLICATE_PERSON;
+import static seedu.address.storage.JsonSerializableMedLogger.MESSAGE_DUPLICATE_VISIT;
+import static seedu.address.storage.JsonSerializableMedLogger.MESSAGE_DUPLICATE_VISIT_ID;
+import static seedu.address.storage.JsonSerializableMedLogger.MESSAGE_NO_PERSON;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.MedLogger;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Visit;
+
+/**
+ * Assembles a {@code MedLogger} from Jackson-friendly persons and visits, which may arrive in batches.
+ * Each batch is converted in parallel on the common fork-join pool, but is validated in order,
+ * so the error thrown is always the one for the earliest invalid entry.
+ * All persons must be added before any visits.
+ */
+class JsonMedLoggerAssembler {
+
+    private final List<Person> persons = new ArrayList<>();
+    private final Map<Nric, Person> personsByNric = new HashMap<>();
+    private final List<Visit> visits = new ArrayList<>();
+    private final Set<Visit> seenVisits = new HashSet<>();
+    private final Set<Long> seenVisitIds = new HashSet<>();
+
+    /**
+     * Converts and adds the next batch of persons.
+     *
+     * @throws IllegalValueException if a person is invalid or has the same NRIC as an earlier person.
+     */
+    public void addPersons(List<JsonAdaptedPerson> batch) throws IllegalValueException {
+        for (Converted<Person> converted : convertInParallel(batch, JsonAdaptedPerson::toModelType)) {
+            Person person = converted.get();
+            if (personsByNric.putIfAbsent(person.getNric(), person) != null) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(person);
+        }
+    }
+
+    /**
+     * Converts and adds the next batch of visits.
+     *
+     * @throws IllegalValueException if a visit is invalid, has no matching person, or duplicates an earlier visit
+     *     or its ID.
+     */
+    public void addVisits(List<JsonAdaptedVisit> batch) throws IllegalValueException {
+        for (Converted<Visit> converted : convertInParallel(batch, this::toVisit)) {
+            Visit visit = converted.get();
+            if (!seenVisits.add(visit)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_VISIT);
+            }
+            if (visit.hasId() && !seenVisitIds.add(visit.getId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_VISIT_ID);
+            }
+            visits.add(visit);
+        }
+    }
+
+    /**
+     * Returns a {@code MedLogger} containing everything added so far.
+     */
+    public MedLogger toMedLogger() {
+        return new MedLogger(persons, visits);
+    }
+
+    private Visit toVisit(JsonAdaptedVisit jsonAdaptedVisit) throws IllegalValueException {
+        Person person = personsByNric.get(jsonAdaptedVisit.getNric());
+        if (person == null) {
+            throw new IllegalValueException(MESSAGE_NO_PERSON);
+        }
+        return jsonAdaptedVisit.toModelType(person);
+    }
+
+    /**
+     * Converts every element of {@code adapted} with {@code converter} in parallel.
+     * The outcomes keep the order of {@code adapted}.
+     */
+    private static <T, R> List<Converted<R>> convertInParallel(List<T> adapted, AdaptedConverter<T, R> converter) {
+        List<Converted<R>> outcomes = new ArrayList<>(adapted.size());
+        for (int i = 0; i < adapted.size(); i++) {
+            outcomes.add(null);
+        }
+        IntStream.range(0, adapted.size()).parallel().forEach(i -> {
+            try {
+                outcomes.set(i, new Converted<>(converter.convert(adapted.get(i)), null));
+            } catch (IllegalValueException ive) {
+                outcomes.set(i, new Converted<>(null, ive));
+            }
+        });
+        return outcomes;
+    }
+
+    /**
+     * Converts a Jackson-friendly adapted object into its model type.
+     */
+    @FunctionalInterface
+    private interface AdaptedConverter<T, R> {
+        R convert(T adapted) throws IllegalValueException;
+    }
+
+    /**
+     * The outcome of converting a single adapted object: either its model type or the reason it is invalid.
+     */
+    private static class Converted<R> {
+        private final R value;
+        private final IllegalValueException error;
+
+        Converted(R value, IllegalValueException error) {
+            this.value = value;
+            this.error = error;
+        }
+
+        R get() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return value;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,20 +15,32 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyMedLogger;
 
 /**
  * A class to access MedLogger data stored as a json file on the hard disk.
+ * An existing binary data file is also read, and is converted to a JSON file the next time the data is saved.
  */
 public class JsonMedLoggerStorage implements MedLoggerStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonMedLoggerStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonMedLoggerStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonMedLoggerStorage} for the file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether saved files should be indented for human readers.
+     *     Compact files are smaller and faster to write.
+     */
+    public JsonMedLoggerStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getMedLoggerFilePath() {
@@ -45,14 +61,20 @@ public class JsonMedLoggerStorage implements MedLoggerStorage {
     public Optional<ReadOnlyMedLogger> readMedLogger(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableMedLogger> jsonMedLogger = JsonUtil.readJsonFile(
-                filePath, JsonSerializableMedLogger.class);
-        if (!jsonMedLogger.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonMedLogger.get().toModelType());
+            if (BinaryMedLoggerReader.isBinaryFile(filePath)) {
+                logger.info("Binary file " + filePath + " found, which will be converted to JSON when saved.");
+                return Optional.of(BinaryMedLoggerReader.read(filePath));
+            }
+            logger.info("JSON file " + filePath + " found.");
+            return Optional.of(JsonMedLoggerStreamReader.read(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +95,28 @@ public class JsonMedLoggerStorage implements MedLoggerStorage {
         requireNonNull(medLogger);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableMedLogger(medLogger), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonMedLoggerStreamWriter.write(medLogger, filePath, isPrettyPrinted);
+    }
+
+    @Override
+    public void saveMedLogger(ReadOnlyMedLogger medLogger, Path filePath, FileUtil.BeforeReplace beforeReplace)
+            throws IOException {
+        requireAllNonNull(medLogger, filePath, beforeReplace);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonMedLoggerStreamWriter.write(medLogger, filePath, isPrettyPrinted, beforeReplace);
+    }
+
+    /**
+     * Returns {@code medLogger} as indented JSON, in the same format as a saved data file.
+     */
+    public static String toJsonString(ReadOnlyMedLogger medLogger) throws IOException {
+        requireNonNull(medLogger);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonMedLoggerStreamWriter.write(medLogger, outputStream, true);
+        return outputStream.toString(StandardCharsets.UTF_8);
     }
 
 }
@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.MedLogger;
+
+/**
+ * Reads a MedLogger data file by streaming its {@code persons} and {@code visits} arrays element by element.
+ * Elements are converted into model objects in batches, so only one batch of Jackson-friendly objects is held
+ * in memory at a time, instead of the whole file as a string and the whole file as adapted objects.
+ */
+class JsonMedLoggerStreamReader {
+
+    static final String PERSONS_FIELD = "persons";
+    static final String VISITS_FIELD = "visits";
+    static final String CHECKSUM_FIELD = "crc32";
+    private static final int BATCH_SIZE = 4096;
+
+    /**
+     * Reads the MedLogger stored in the JSON file at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read, is not valid JSON, or does not match its checksum.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static MedLogger read(Path filePath) throws IOException, IllegalValueException {
+        try (ChecksumVerifyingInputStream inputStream = new ChecksumVerifyingInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath)), CHECKSUM_FIELD);
+                JsonParser parser = JsonUtil.createParser(inputStream)) {
+            MedLogger medLogger;
+            try {
+                medLogger = read(parser);
+            } catch (IllegalValueException | JsonProcessingException e) {
+                // A corrupted file is reported as such, rather than as whatever invalid data the corruption produced.
+                inputStream.verify();
+                throw e;
+            }
+            inputStream.verify();
+            return medLogger;
+        }
+    }
+
+    private static MedLogger read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected the MedLogger data to be a JSON object");
+        }
+
+        JsonMedLoggerAssembler assembler = new JsonMedLoggerAssembler();
+        List<JsonAdaptedVisit> visitsBeforePersons = new ArrayList<>();
+        boolean hasReadPersons = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (PERSONS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                readArray(parser, JsonAdaptedPerson.class, assembler::addPersons);
+                hasReadPersons = true;
+            } else if (VISITS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                if (hasReadPersons) {
+                    readArray(parser, JsonAdaptedVisit.class, assembler::addVisits);
+                } else {
+                    // Visits can only be resolved once their persons are known.
+                    readArray(parser, JsonAdaptedVisit.class, visitsBeforePersons::addAll);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        assembler.addVisits(visitsBeforePersons);
+        return assembler.toMedLogger();
+    }
+
+    /**
+     * Reads the elements of the array the parser is positioned at, passing them to {@code consumer}
+     * in batches of at most {@code BATCH_SIZE}.
+     */
+    private static <T> void readArray(JsonParser parser, Class<T> elementType, BatchConsumer<T> consumer)
+            throws IOException, IllegalValueException {
+        List<T> batch = new ArrayList<>(BATCH_SIZE);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.getCurrentToken() == null) {
+                throw new JsonParseException(parser, "Unexpected end of MedLogger data");
+            }
+            batch.add(parser.readValueAs(elementType));
+            if (batch.size() == BATCH_SIZE) {
+                consumer.accept(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        consumer.accept(batch);
+    }
+
+    /**
+     * Receives consecutive batches of elements read from a JSON array.
+     */
+    @FunctionalInterface
+    private interface BatchConsumer<T> {
+        void accept(List<T> batch) throws IllegalValueException;
+    }
+}
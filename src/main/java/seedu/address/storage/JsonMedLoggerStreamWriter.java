@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyMedLogger;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Visit;
+
+/**
+ * Writes a MedLogger to a JSON file by streaming its persons and visits straight from the model.
+ * The output has the same structure as {@link JsonSerializableMedLogger}, but no intermediate
+ * Jackson-friendly objects or strings are built.
+ * The output ends with a CRC32 checksum field, which {@link JsonMedLoggerStreamReader} checks.
+ */
+class JsonMedLoggerStreamWriter {
+
+    /**
+     * Writes {@code medLogger} to the file at {@code filePath}, atomically replacing its contents.
+     *
+     * @param prettyPrint whether the output should be indented for human readers.
+     */
+    public static void write(ReadOnlyMedLogger medLogger, Path filePath, boolean prettyPrint) throws IOException {
+        write(medLogger, filePath, prettyPrint, writtenFile -> {});
+    }
+
+    /**
+     * Similar to {@link #write(ReadOnlyMedLogger, Path, boolean)}, but runs {@code beforeReplace} on the written
+     * file before it replaces the contents of {@code filePath}.
+     */
+    public static void write(ReadOnlyMedLogger medLogger, Path filePath, boolean prettyPrint,
+            FileUtil.BeforeReplace beforeReplace) throws IOException {
+        FileUtil.writeAtomically(filePath, outputStream -> write(medLogger, outputStream, prettyPrint),
+                beforeReplace);
+    }
+
+    /**
+     * Writes {@code medLogger} to {@code outputStream}, and closes it.
+     *
+     * @param prettyPrint whether the output should be indented for human readers.
+     */
+    public static void write(ReadOnlyMedLogger medLogger, OutputStream outputStream, boolean prettyPrint)
+            throws IOException {
+        CheckedOutputStream checkedStream = new CheckedOutputStream(outputStream, new CRC32());
+        try (JsonGenerator generator = JsonUtil.createGenerator(checkedStream, prettyPrint)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(JsonMedLoggerStreamReader.PERSONS_FIELD);
+            for (Person person : medLogger.getPersonList()) {
+                JsonAdaptedPerson.writeJson(person, generator);
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart(JsonMedLoggerStreamReader.VISITS_FIELD);
+            for (Visit visit : medLogger.getVisitList()) {
+                JsonAdaptedVisit.writeJson(visit, generator);
+            }
+            generator.writeEndArray();
+
+            // The checksum covers everything written before the separator of its own field.
+            generator.flush();
+            generator.writeStringField(JsonMedLoggerStreamReader.CHECKSUM_FIELD,
+                    String.format("%08x", checkedStream.getChecksum().getValue()));
+            generator.writeEndObject();
+        }
+    }
+}
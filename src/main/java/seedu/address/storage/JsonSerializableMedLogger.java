@@ -2,7 +2,6 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -12,9 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.MedLogger;
 import seedu.address.model.ReadOnlyMedLogger;
-import seedu.address.model.person.Nric;
-import seedu.address.model.person.Person;
-import seedu.address.model.person.Visit;
 
 /**
  * An Immutable MedLogger that is serializable to JSON format.
@@ -24,6 +20,7 @@ class JsonSerializableMedLogger {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_VISIT = "Visits list contains duplicate visit(s).";
+    public static final String MESSAGE_DUPLICATE_VISIT_ID = "Visits list contains visits with the same ID.";
     public static final String MESSAGE_NO_PERSON = "Some visits have no associated person(s).";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
@@ -55,30 +52,10 @@ class JsonSerializableMedLogger {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public MedLogger toModelType() throws IllegalValueException {
-        MedLogger medLogger = new MedLogger();
-
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (medLogger.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            medLogger.addPerson(person);
-        }
-
-        for (JsonAdaptedVisit jsonAdaptedVisit : visits) {
-            Nric nric = jsonAdaptedVisit.getNric();
-            Optional<Person> optionalPerson = medLogger.getPersonByNric(nric);
-            if (optionalPerson.isEmpty()) {
-                throw new IllegalValueException(MESSAGE_NO_PERSON);
-            }
-            Visit visit = jsonAdaptedVisit.toModelType(optionalPerson.get());
-            if (medLogger.hasVisit(visit)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_VISIT);
-            }
-            medLogger.addVisit(visit);
-        }
-
-        return medLogger;
+        JsonMedLoggerAssembler assembler = new JsonMedLoggerAssembler();
+        assembler.addPersons(persons);
+        assembler.addVisits(visits);
+        return assembler.toMedLogger();
     }
 
 }
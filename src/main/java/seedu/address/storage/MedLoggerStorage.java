@@ -1,11 +1,17 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.MedLogger;
+import seedu.address.model.MedLoggerChange;
 import seedu.address.model.ReadOnlyMedLogger;
 
 /**
@@ -43,4 +49,42 @@ public interface MedLoggerStorage {
      */
     void saveMedLogger(ReadOnlyMedLogger medLogger, Path filePath) throws IOException;
 
+    /**
+     * Similar to {@link #saveMedLogger(ReadOnlyMedLogger, Path)}, but runs {@code beforeReplace} on the saved data
+     * once it is on disk, before it replaces the data at {@code filePath}.
+     * Storages that write their data file atomically run it on their own temporary file, so the data is only
+     * written once.
+     */
+    default void saveMedLogger(ReadOnlyMedLogger medLogger, Path filePath, FileUtil.BeforeReplace beforeReplace)
+            throws IOException {
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        saveMedLogger(medLogger, tempPath);
+        beforeReplace.run(tempPath);
+        try {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Saves {@code changes}, the changes made to {@code medLogger} since it was last saved, to the storage.
+     * Storages that cannot record individual changes save the whole of {@code medLogger} instead.
+     * @param medLogger cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveMedLoggerChanges(ReadOnlyMedLogger medLogger, List<MedLoggerChange> changes)
+            throws IOException {
+        saveMedLogger(medLogger);
+    }
+
+    /**
+     * Deletes the data in the storage, if any.
+     * @throws IOException if there was any problem deleting the files.
+     */
+    default void deleteMedLogger() throws IOException {
+        Files.deleteIfExists(getMedLoggerFilePath());
+    }
+
 }
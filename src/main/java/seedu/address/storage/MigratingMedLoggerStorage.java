@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.MedLoggerChange;
+import seedu.address.model.ReadOnlyMedLogger;
+
+/**
+ * A {@code MedLoggerStorage} that moves the data from a previous storage layout to the current one.
+ * The data is read from the current storage, or from the previous storage if the current storage has none.
+ * The data is always saved to the current storage. Once it has been saved there in full, the data in the previous
+ * storage is deleted, so that it is not read again, out of date, if the layout is later switched back.
+ * <p>
+ * Data in the previous storage that could not be read is never deleted.
+ */
+public class MigratingMedLoggerStorage implements MedLoggerStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(MigratingMedLoggerStorage.class);
+
+    private final MedLoggerStorage currentStorage;
+    private final MedLoggerStorage previousStorage;
+    private boolean canDeletePrevious;
+    private boolean hasMigrated;
+
+    /**
+     * Creates a {@code MigratingMedLoggerStorage} that moves data from {@code previousStorage} to
+     * {@code currentStorage}.
+     */
+    public MigratingMedLoggerStorage(MedLoggerStorage currentStorage, MedLoggerStorage previousStorage) {
+        requireAllNonNull(currentStorage, previousStorage);
+        this.currentStorage = currentStorage;
+        this.previousStorage = previousStorage;
+    }
+
+    @Override
+    public Path getMedLoggerFilePath() {
+        return currentStorage.getMedLoggerFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyMedLogger> readMedLogger() throws DataLoadingException {
+        Optional<ReadOnlyMedLogger> data = currentStorage.readMedLogger();
+        if (data.isEmpty()) {
+            data = previousStorage.readMedLogger();
+            data.ifPresent(unused -> logger.info("Moving data from " + previousStorage.getClass().getSimpleName()
+                    + " to " + currentStorage.getClass().getSimpleName() + "."));
+        }
+
+        // Reaching here means the previous data has either been read, or is out of date.
+        canDeletePrevious = true;
+        return data;
+    }
+
+    @Override
+    public Optional<ReadOnlyMedLogger> readMedLogger(Path filePath) throws DataLoadingException {
+        return currentStorage.readMedLogger(filePath);
+    }
+
+    @Override
+    public void saveMedLogger(ReadOnlyMedLogger medLogger) throws IOException {
+        currentStorage.saveMedLogger(medLogger);
+        deletePreviousIfMigrated();
+    }
+
+    @Override
+    public void saveMedLogger(ReadOnlyMedLogger medLogger, Path filePath) throws IOException {
+        currentStorage.saveMedLogger(medLogger, filePath);
+    }
+
+    /**
+     * Saves {@code changes} to the current storage, or saves the data in full if it has not been moved yet.
+     */
+    @Override
+    public void saveMedLoggerChanges(ReadOnlyMedLogger medLogger, List<MedLoggerChange> changes)
+            throws IOException {
+        if (!hasMigrated) {
+            saveMedLogger(medLogger);
+            return;
+        }
+        currentStorage.saveMedLoggerChanges(medLogger, changes);
+    }
+
+    @Override
+    public void deleteMedLogger() throws IOException {
+        currentStorage.deleteMedLogger();
+        previousStorage.deleteMedLogger();
+    }
+
+    private void deletePreviousIfMigrated() throws IOException {
+        if (hasMigrated) {
+            return;
+        }
+        if (canDeletePrevious) {
+            previousStorage.deleteMedLogger();
+        }
+        hasMigrated = true;
+    }
+}
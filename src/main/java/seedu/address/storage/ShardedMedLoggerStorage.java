@@ -0,0 +1,483 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.storage.JsonSerializableMedLogger.MESSAGE_DUPLICATE_VISIT_ID;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.MedLogger;
+import seedu.address.model.MedLoggerChange;
+import seedu.address.model.MedLoggerSnapshot;
+import seedu.address.model.ReadOnlyMedLogger;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Visit;
+
+/**
+ * A {@code MedLoggerStorage} that splits the data into shards by the NRIC of each person, and keeps each shard
+ * in its own file, in a directory next to the data file.
+ * <p>
+ * Each shard holds the persons whose NRICs hash to it, together with their visits, and is saved through another
+ * {@code MedLoggerStorage}, so shards can be in any data file format. Saving changes only rewrites the shards of
+ * the persons and visits that changed. The first save writes every shard, so the shards always hold all the data.
+ * Shards are read in parallel.
+ * <p>
+ * The shards of a save are first written next to the shards they replace, and only put in place once all of them
+ * are written and a commit file listing them is on disk. A save that stopped halfway is thus either ignored or
+ * completed when the shards are next read, so a person moved to another shard by a change of NRIC is never left
+ * in both shards, or in neither.
+ * <p>
+ * Shards are read in shard order, so persons and visits are not necessarily read back in the order they were added.
+ */
+public class ShardedMedLoggerStorage implements MedLoggerStorage {
+
+    public static final int DEFAULT_SHARD_COUNT = 16;
+    public static final String MESSAGE_INCONSISTENT_SHARDS = "Data shards do not fit together: %s";
+
+    static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    static final String PENDING_SUFFIX = ".pending";
+    static final String COMMIT_FILE_NAME = "commit";
+    static final String UNREADABLE_SUFFIX = ".unreadable-";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedMedLoggerStorage.class);
+
+    private final Path filePath;
+    private final int shardCount;
+    private final Function<Path, MedLoggerStorage> shardStorageFactory;
+    /** The NRICs of the persons in each shard, as last saved, or null until every shard has been saved. */
+    private List<Set<Nric>> shardNrics;
+    private boolean hasFailedToLoad;
+
+    public ShardedMedLoggerStorage(Path filePath, Function<Path, MedLoggerStorage> shardStorageFactory) {
+        this(filePath, DEFAULT_SHARD_COUNT, shardStorageFactory);
+    }
+
+    /**
+     * Creates a {@code ShardedMedLoggerStorage} that keeps {@code shardCount} shards next to {@code filePath}.
+     *
+     * @param shardStorageFactory creates the storage for the shard file at a given path.
+     */
+    public ShardedMedLoggerStorage(Path filePath, int shardCount,
+            Function<Path, MedLoggerStorage> shardStorageFactory) {
+        requireAllNonNull(filePath, shardStorageFactory);
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("There must be at least one shard");
+        }
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+        this.shardStorageFactory = shardStorageFactory;
+    }
+
+    @Override
+    public Path getMedLoggerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyMedLogger> readMedLogger() throws DataLoadingException {
+        try {
+            return readMedLogger(filePath);
+        } catch (DataLoadingException e) {
+            // The app starts afresh when its data cannot be loaded, and its first save must not overwrite the shards.
+            hasFailedToLoad = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Reads and combines the shards next to {@code filePath}, completing a save that stopped after it was committed.
+     * A person found in more than one shard is taken, with their visits, from the shard their NRIC belongs to.
+     * Returns {@code Optional.empty()} if there are no shards.
+     *
+     * @param filePath location of the data file the shards are next to. Cannot be null.
+     * @throws DataLoadingException if loading a shard failed, or the shards do not fit together.
+     */
+    @Override
+    public Optional<ReadOnlyMedLogger> readMedLogger(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        BitSet committedShards;
+        try {
+            committedShards = readCommittedShards(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading the commit file next to " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        List<Path> shardPaths = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            Path pendingPath = getPendingShardPath(filePath, shard);
+            shardPaths.add(committedShards.get(shard) && Files.exists(pendingPath)
+                    ? pendingPath
+                    : getShardPath(filePath, shard));
+        }
+        if (shardPaths.stream().noneMatch(Files::exists)) {
+            return Optional.empty();
+        }
+        logger.info(shardPaths.stream().filter(Files::exists).count() + " data shards found next to " + filePath
+                + ".");
+
+        List<ReadOnlyMedLogger> shards = new ArrayList<>(shardCount);
+        List<DataLoadingException> errors = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            shards.add(null);
+            errors.add(null);
+        }
+        IntStream.range(0, shardCount).parallel().forEach(shard -> {
+            try {
+                MedLoggerStorage shardStorage = shardStorageFactory.apply(getShardPath(filePath, shard));
+                shards.set(shard, shardStorage.readMedLogger(shardPaths.get(shard)).orElseGet(MedLogger::new));
+            } catch (DataLoadingException e) {
+                errors.set(shard, e);
+            }
+        });
+        for (DataLoadingException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        Map<Nric, Integer> shardOfPerson = new HashMap<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (Person person : shards.get(shard).getPersonList()) {
+                Integer otherShard = shardOfPerson.putIfAbsent(person.getNric(), shard);
+                if (otherShard != null) {
+                    logger.warning(person.getNric() + " is in data shards " + otherShard + " and " + shard
+                            + " next to " + filePath + ".");
+                    if (shard == getShard(person.getNric())) {
+                        shardOfPerson.put(person.getNric(), shard);
+                    }
+                }
+            }
+        }
+        List<Person> persons = new ArrayList<>();
+        List<Visit> visits = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (Person person : shards.get(shard).getPersonList()) {
+                if (shardOfPerson.get(person.getNric()) == shard) {
+                    persons.add(person);
+                }
+            }
+            for (Visit visit : shards.get(shard).getVisitList()) {
+                if (shardOfPerson.get(visit.getNric()) == shard) {
+                    visits.add(visit);
+                }
+            }
+        }
+        // Each shard is checked as it is read, so only the visit IDs can clash between shards.
+        Set<Long> visitIds = new HashSet<>();
+        for (Visit visit : visits) {
+            if (visit.hasId() && !visitIds.add(visit.getId())) {
+                logger.warning("Data shards next to " + filePath + " have more than one visit with ID "
+                        + visit.getId());
+                throw new DataLoadingException(new IllegalValueException(
+                        String.format(MESSAGE_INCONSISTENT_SHARDS, MESSAGE_DUPLICATE_VISIT_ID)));
+            }
+        }
+        return Optional.of(new MedLoggerSnapshot(persons, visits));
+    }
+
+    @Override
+    public void saveMedLogger(ReadOnlyMedLogger medLogger) throws IOException {
+        requireNonNull(medLogger);
+
+        if (hasFailedToLoad) {
+            moveAsideUnreadableShards();
+        }
+        Map<Integer, ReadOnlyMedLogger> shards = splitIntoShards(medLogger);
+        saveShards(filePath, shards, new BitSet(shardCount));
+        shardNrics = IntStream.range(0, shardCount)
+                .mapToObj(shard -> shards.get(shard).getPersonList().stream()
+                        .map(Person::getNric)
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Saves every shard of {@code medLogger} next to {@code filePath}.
+     *
+     * @param filePath location of the data file the shards are next to. Cannot be null.
+     */
+    @Override
+    public void saveMedLogger(ReadOnlyMedLogger medLogger, Path filePath) throws IOException {
+        requireAllNonNull(medLogger, filePath);
+        saveShards(filePath, splitIntoShards(medLogger), new BitSet(shardCount));
+    }
+
+    /**
+     * Saves the shards of the persons and visits in {@code changes}.
+     * The persons in each shard are known from earlier saves, so the shards are put together from the persons
+     * they hold and their visits, without going through all the data. The first save after the storage is created
+     * saves every shard.
+     */
+    @Override
+    public void saveMedLoggerChanges(ReadOnlyMedLogger medLogger, List<MedLoggerChange> changes)
+            throws IOException {
+        requireAllNonNull(medLogger, changes);
+
+        boolean hasReset = changes.stream().anyMatch(change -> change.getType() == MedLoggerChange.Type.RESET);
+        if (shardNrics == null || hasReset) {
+            saveMedLogger(medLogger);
+            return;
+        }
+        BitSet destinationShards = new BitSet(shardCount);
+        BitSet dirtyShards = recordChanges(changes, destinationShards);
+        logger.fine("Saving " + dirtyShards.cardinality() + " of " + shardCount + " data shards");
+        Map<Integer, ReadOnlyMedLogger> shards = new HashMap<>();
+        for (int shard = dirtyShards.nextSetBit(0); shard >= 0; shard = dirtyShards.nextSetBit(shard + 1)) {
+            shards.put(shard, getShardData(medLogger, shard));
+        }
+        saveShards(filePath, shards, destinationShards);
+    }
+
+    @Override
+    public void deleteMedLogger() throws IOException {
+        for (int shard = 0; shard < shardCount; shard++) {
+            shardStorageFactory.apply(getShardPath(filePath, shard)).deleteMedLogger();
+            Files.deleteIfExists(getPendingShardPath(filePath, shard));
+        }
+        Files.deleteIfExists(getCommitPath(filePath));
+        try {
+            Files.deleteIfExists(getShardDirectory(filePath));
+        } catch (DirectoryNotEmptyException e) {
+            logger.info("Leaving " + getShardDirectory(filePath) + " in place, as it holds other files.");
+        }
+        shardNrics = null;
+    }
+
+    /**
+     * Returns the shard that the person with {@code nric}, and their visits, belong to.
+     * {@code String#hashCode} is specified by the language, so the shard of an NRIC never changes between runs.
+     */
+    int getShard(Nric nric) {
+        return Math.floorMod(nric.hashCode(), shardCount);
+    }
+
+    static Path getShardDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the file for {@code shard}, which has the same extension as {@code filePath}.
+     */
+    static Path getShardPath(Path filePath, int shard) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String extension = extensionStart == -1 ? "" : fileName.substring(extensionStart);
+        return getShardDirectory(filePath).resolve(String.format("shard-%02d%s", shard, extension));
+    }
+
+    /**
+     * Returns the path that {@code shard} is written to before it is put in place.
+     */
+    static Path getPendingShardPath(Path filePath, int shard) {
+        Path shardPath = getShardPath(filePath, shard);
+        return shardPath.resolveSibling(shardPath.getFileName() + PENDING_SUFFIX);
+    }
+
+    static Path getCommitPath(Path filePath) {
+        return getShardDirectory(filePath).resolve(COMMIT_FILE_NAME);
+    }
+
+    /**
+     * Returns the shards that hold the persons and visits changed by {@code changes}, and records the persons
+     * that {@code changes} add to or remove from each shard.
+     * The shards that persons are moved into by a change of NRIC are set in {@code destinationShards}.
+     */
+    private BitSet recordChanges(List<MedLoggerChange> changes, BitSet destinationShards) {
+        BitSet dirtyShards = new BitSet(shardCount);
+        for (MedLoggerChange change : changes) {
+            switch (change.getType()) {
+            case ADD_PERSON:
+                shardNrics.get(markShard(dirtyShards, change.getPerson().getNric()))
+                        .add(change.getPerson().getNric());
+                break;
+            case SET_PERSON:
+                Nric targetNric = change.getTargetPerson().getNric();
+                Nric editedNric = change.getPerson().getNric();
+                int sourceShard = markShard(dirtyShards, targetNric);
+                int destinationShard = markShard(dirtyShards, editedNric);
+                shardNrics.get(sourceShard).remove(targetNric);
+                shardNrics.get(destinationShard).add(editedNric);
+                if (sourceShard != destinationShard) {
+                    destinationShards.set(destinationShard);
+                }
+                break;
+            case REMOVE_PERSON:
+                shardNrics.get(markShard(dirtyShards, change.getTargetPerson().getNric()))
+                        .remove(change.getTargetPerson().getNric());
+                break;
+            case ADD_VISIT:
+            case SET_VISIT:
+            case REMOVE_VISIT:
+                if (change.getTargetVisit() != null) {
+                    markShard(dirtyShards, change.getTargetVisit().getNric());
+                }
+                if (change.getVisit() != null) {
+                    markShard(dirtyShards, change.getVisit().getNric());
+                }
+                break;
+            default:
+                dirtyShards.set(0, shardCount);
+            }
+        }
+        return dirtyShards;
+    }
+
+    private int markShard(BitSet shards, Nric nric) {
+        int shard = getShard(nric);
+        shards.set(shard);
+        return shard;
+    }
+
+    /**
+     * Returns the persons in {@code shard} and their visits, as they are in {@code medLogger}.
+     */
+    private ReadOnlyMedLogger getShardData(ReadOnlyMedLogger medLogger, int shard) {
+        List<Person> persons = new ArrayList<>(shardNrics.get(shard).size());
+        List<Visit> visits = new ArrayList<>();
+        for (Nric nric : shardNrics.get(shard)) {
+            medLogger.getPersonByNric(nric).ifPresent(person -> {
+                persons.add(person);
+                visits.addAll(medLogger.getDictionary().getVisitsForPerson(person));
+            });
+        }
+        return new MedLoggerSnapshot(persons, visits);
+    }
+
+    /**
+     * Splits all of {@code medLogger} into shards, keyed by shard.
+     */
+    private Map<Integer, ReadOnlyMedLogger> splitIntoShards(ReadOnlyMedLogger medLogger) {
+        List<List<Person>> persons = new ArrayList<>(shardCount);
+        List<List<Visit>> visits = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            persons.add(new ArrayList<>());
+            visits.add(new ArrayList<>());
+        }
+        for (Person person : medLogger.getPersonList()) {
+            persons.get(getShard(person.getNric())).add(person);
+        }
+        for (Visit visit : medLogger.getVisitList()) {
+            visits.get(getShard(visit.getNric())).add(visit);
+        }
+        Map<Integer, ReadOnlyMedLogger> shards = new HashMap<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            shards.put(shard, new MedLoggerSnapshot(persons.get(shard), visits.get(shard)));
+        }
+        return shards;
+    }
+
+    /**
+     * Saves {@code shards}, keyed by shard, next to {@code filePath}.
+     * The shards in {@code destinationShards} are written and put in place before the others.
+     */
+    private void saveShards(Path filePath, Map<Integer, ReadOnlyMedLogger> shards, BitSet destinationShards)
+            throws IOException {
+        if (shards.isEmpty()) {
+            return;
+        }
+
+        Files.createDirectories(getShardDirectory(filePath));
+        completeCommittedSave(filePath);
+        List<Integer> order = getSaveOrder(shards.keySet(), destinationShards);
+        for (int shard : order) {
+            shardStorageFactory.apply(getShardPath(filePath, shard))
+                    .saveMedLogger(shards.get(shard), getPendingShardPath(filePath, shard));
+        }
+        String committedShards = order.stream().map(String::valueOf).collect(Collectors.joining(","));
+        FileUtil.writeAtomically(getCommitPath(filePath), outputStream ->
+                outputStream.write(committedShards.getBytes(StandardCharsets.UTF_8)));
+        completeCommittedSave(filePath);
+    }
+
+    /**
+     * Returns {@code shardsToSave} in shard order, with those in {@code destinationShards} first.
+     */
+    private static List<Integer> getSaveOrder(Set<Integer> shardsToSave, BitSet destinationShards) {
+        List<Integer> order = new ArrayList<>(shardsToSave);
+        order.sort(Comparator.comparing((Integer shard) -> !destinationShards.get(shard))
+                .thenComparing(Comparator.naturalOrder()));
+        return order;
+    }
+
+    /**
+     * Puts the shards of a committed save next to {@code filePath} in place, if there is one.
+     */
+    private void completeCommittedSave(Path filePath) throws IOException {
+        BitSet committedShards = readCommittedShards(filePath);
+        for (int shard : committedShards.stream().toArray()) {
+            Path pendingPath = getPendingShardPath(filePath, shard);
+            if (!Files.exists(pendingPath)) {
+                continue;
+            }
+            try {
+                Files.move(pendingPath, getShardPath(filePath, shard), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(pendingPath, getShardPath(filePath, shard), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.deleteIfExists(getCommitPath(filePath));
+    }
+
+    /**
+     * Returns the shards listed in the commit file next to {@code filePath}, or none if there is no commit file.
+     */
+    private BitSet readCommittedShards(Path filePath) throws IOException {
+        BitSet committedShards = new BitSet(shardCount);
+        Path commitPath = getCommitPath(filePath);
+        if (!Files.exists(commitPath)) {
+            return committedShards;
+        }
+        for (String shard : Files.readString(commitPath, StandardCharsets.UTF_8).split(",")) {
+            try {
+                int shardNumber = Integer.parseInt(shard.trim());
+                if (shardNumber >= 0 && shardNumber < shardCount) {
+                    committedShards.set(shardNumber);
+                }
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid commit file " + commitPath, e);
+            }
+        }
+        return committedShards;
+    }
+
+    /**
+     * Moves the shards that could not be loaded aside, so that the data they hold is kept.
+     */
+    private void moveAsideUnreadableShards() throws IOException {
+        Path shardDirectory = getShardDirectory(filePath);
+        if (Files.exists(shardDirectory)) {
+            Path movedDirectory = shardDirectory.resolveSibling(shardDirectory.getFileName() + UNREADABLE_SUFFIX
+                    + System.currentTimeMillis());
+            logger.warning("Moving data shards that could not be loaded to " + movedDirectory);
+            Files.move(shardDirectory, movedDirectory);
+        }
+        hasFailedToLoad = false;
+    }
+}
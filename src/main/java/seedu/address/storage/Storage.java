@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.MedLoggerChange;
 import seedu.address.model.ReadOnlyMedLogger;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -29,4 +31,7 @@ public interface Storage extends MedLoggerStorage, UserPrefsStorage {
     @Override
     void saveMedLogger(ReadOnlyMedLogger medLogger) throws IOException;
 
+    @Override
+    void saveMedLoggerChanges(ReadOnlyMedLogger medLogger, List<MedLoggerChange> changes) throws IOException;
+
 }
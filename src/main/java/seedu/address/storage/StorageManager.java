@@ -2,11 +2,13 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.MedLoggerChange;
 import seedu.address.model.ReadOnlyMedLogger;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -75,4 +77,10 @@ public class StorageManager implements Storage {
         medLoggerStorage.saveMedLogger(medLogger, filePath);
     }
 
+    @Override
+    public void saveMedLoggerChanges(ReadOnlyMedLogger medLogger, List<MedLoggerChange> changes) throws IOException {
+        logger.fine("Attempting to save " + changes.size() + " changes to data file: " + getMedLoggerFilePath());
+        medLoggerStorage.saveMedLoggerChanges(medLogger, changes);
+    }
+
 }
@@ -18,6 +18,7 @@ import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.VisitQuery;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -119,12 +120,11 @@ public class MainWindow extends UiPart<Stage> {
     void fillInnerParts() {
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
         personListPanel.setPersonSelectionCallback(selectedPerson -> {
-            logic.updateFilteredVisitList(visit ->
-                visit.getNric().equals(selectedPerson.getNric()));
+            logic.updateFilteredVisitList(VisitQuery.forPerson(selectedPerson.getNric()));
         });
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        visitListPanel = new VisitListPanel(logic.getSortedVisitList());
+        visitListPanel = new VisitListPanel(logic.getSortedVisitList(), logic.getMedLogger());
         visitListPanelPlaceholder.getChildren().add(visitListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -4,6 +4,7 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Visit;
 
 /**
@@ -37,15 +38,15 @@ public class VisitCard extends UiPart<Region> {
     private Label followUp;
 
     /**
-     * Creates a {@code VisitCard} with the given {@code Visit} and index to display.
+     * Creates a {@code VisitCard} with the given {@code Visit}, the {@code Person} visiting and index to display.
      */
-    public VisitCard(Visit visit, int displayedIndex) {
+    public VisitCard(Visit visit, Person person, int displayedIndex) {
         super(FXML);
         this.visit = visit;
 
         id.setText(displayedIndex + ". ");
-        name.setText(visit.getPerson().getName().fullName);
-        nric.setText("NRIC: " + visit.getPerson().getNric().value);
+        name.setText(person.getName().fullName);
+        nric.setText("NRIC: " + visit.getNric().value);
         time.setText("Visit Time: " + visit.getDateTime().toString());
 
         remark.setText(visit.getRemark().value.isEmpty() ? "" : "Remark: " + visit.getRemark().value);
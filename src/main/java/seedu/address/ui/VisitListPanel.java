@@ -1,13 +1,17 @@
 package seedu.address.ui;
 
+import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyMedLogger;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Visit;
 
 /**
@@ -17,16 +21,22 @@ public class VisitListPanel extends UiPart<Region> {
     private static final String FXML = "VisitListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(VisitListPanel.class);
 
+    private final ReadOnlyMedLogger medLogger;
+
     @FXML
     private ListView<Visit> visitListView;
 
     /**
      * Creates a {@code VisitListPanel} with the given {@code ObservableList}.
+     * The person of each visit is looked up in {@code medLogger}.
      */
-    public VisitListPanel(ObservableList<Visit> visitList) {
+    public VisitListPanel(ObservableList<Visit> visitList, ReadOnlyMedLogger medLogger) {
         super(FXML);
+        this.medLogger = medLogger;
         visitListView.setItems(visitList);
         visitListView.setCellFactory(listView -> new VisitListViewCell());
+        // Editing a person does not change their visits, so the cards showing them are redrawn instead.
+        medLogger.getPersonList().addListener((ListChangeListener<Person>) change -> visitListView.refresh());
     }
 
     /**
@@ -37,11 +47,15 @@ public class VisitListPanel extends UiPart<Region> {
         protected void updateItem(Visit visit, boolean empty) {
             super.updateItem(visit, empty);
 
-            if (empty || visit == null) {
+            Optional<Person> person = empty || visit == null
+                    ? Optional.empty()
+                    : medLogger.getPersonByNric(visit.getNric());
+            if (person.isEmpty()) {
+                // A removed person's visits are removed right after them, so there is nothing to show meanwhile.
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new VisitCard(visit, getIndex() + 1).getRoot());
+                setGraphic(new VisitCard(visit, person.get(), getIndex() + 1).getRoot());
             }
         }
     }
@@ -0,0 +1,167 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.MedLogger;
+import seedu.address.model.MedLoggerChange;
+import seedu.address.model.ReadOnlyMedLogger;
+import seedu.address.storage.JsonMedLoggerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class MedLoggerSaverTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final List<List<MedLoggerChange>> savedChanges = new ArrayList<>();
+    private final List<MedLogger> savedData = new ArrayList<>();
+    private final List<MedLogger> fullySavedData = new ArrayList<>();
+    private final List<Runnable> queuedTasks = new ArrayList<>();
+    private RuntimeException runtimeFailure;
+    private boolean isFailing;
+
+    @Test
+    public void submit_duringWrite_coalescedIntoNextWrite() {
+        MedLoggerSaver saver = new MedLoggerSaver(createStorage(), new MedLogger(), queuedTasks::add);
+
+        saver.submit(List.of(MedLoggerChange.addPerson(ALICE)));
+        saver.submit(List.of(MedLoggerChange.addPerson(BENSON)));
+
+        assertEquals(1, queuedTasks.size());
+        queuedTasks.get(0).run();
+        assertEquals(List.of(List.of(MedLoggerChange.addPerson(ALICE), MedLoggerChange.addPerson(BENSON))),
+                savedChanges);
+    }
+
+    @Test
+    public void submit_changes_savedWithDataAfterChanges() {
+        MedLogger initialData = new MedLogger();
+        initialData.addPerson(ALICE);
+        MedLoggerSaver saver = new MedLoggerSaver(createStorage(), initialData, Runnable::run);
+
+        saver.submit(List.of(MedLoggerChange.addPerson(BENSON)));
+
+        MedLogger expectedData = new MedLogger();
+        expectedData.addPerson(ALICE);
+        expectedData.addPerson(BENSON);
+        assertEquals(List.of(expectedData), savedData);
+    }
+
+    @Test
+    public void submit_afterFailedWrite_retriesFailedChanges() throws Exception {
+        MedLoggerSaver saver = new MedLoggerSaver(createStorage(), new MedLogger(), Runnable::run);
+
+        isFailing = true;
+        saver.submit(List.of(MedLoggerChange.addPerson(ALICE)));
+        assertTrue(saver.pollFailure().isPresent());
+        assertFalse(saver.pollFailure().isPresent());
+
+        isFailing = false;
+        saver.submit(List.of(MedLoggerChange.addPerson(BENSON)));
+        assertFalse(saver.pollFailure().isPresent());
+        assertEquals(List.of(List.of(MedLoggerChange.addPerson(ALICE), MedLoggerChange.addPerson(BENSON))),
+                savedChanges);
+    }
+
+    @Test
+    public void submit_storageThrowsRuntimeException_reportedAndLaterWritesNotBlocked() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        MedLoggerSaver saver = new MedLoggerSaver(createStorage(), new MedLogger(), tasks::add);
+
+        runtimeFailure = new IllegalStateException("dummy runtime exception");
+        saver.submit(List.of(MedLoggerChange.addPerson(ALICE)));
+        tasks.remove(0).run();
+        assertTrue(saver.pollFailure().isPresent());
+
+        runtimeFailure = null;
+        saver.submit(List.of(MedLoggerChange.addPerson(BENSON)));
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        saver.flush();
+        assertEquals(List.of(List.of(MedLoggerChange.addPerson(ALICE), MedLoggerChange.addPerson(BENSON))),
+                savedChanges);
+    }
+
+    @Test
+    public void flush_pendingChanges_writtenOnCallerThread() throws Exception {
+        MedLoggerSaver saver = new MedLoggerSaver(createStorage(), new MedLogger(), Runnable::run);
+
+        isFailing = true;
+        saver.submit(List.of(MedLoggerChange.clearVisits()));
+        isFailing = false;
+        saver.flush();
+
+        assertEquals(List.of(List.of(MedLoggerChange.clearVisits())), savedChanges);
+    }
+
+    @Test
+    public void submit_afterChangeCannotBeApplied_dataSavedInFullThenChangesSaved() {
+        MedLogger data = new MedLogger();
+        MedLoggerSaver saver = new MedLoggerSaver(createStorage(), data, Runnable::run);
+
+        // ALICE was never added, so the change does not fit the saver's copy of the data.
+        saver.submit(List.of(MedLoggerChange.removePerson(ALICE)));
+        assertTrue(saver.pollFailure().isPresent());
+        assertEquals(List.of(), savedChanges);
+
+        data.addPerson(BENSON);
+        saver.submit(List.of(MedLoggerChange.addPerson(BENSON)));
+        assertFalse(saver.pollFailure().isPresent());
+        assertEquals(List.of(data), fullySavedData);
+
+        data.addPerson(CARL);
+        saver.submit(List.of(MedLoggerChange.addPerson(CARL)));
+        assertEquals(List.of(List.of(MedLoggerChange.addPerson(CARL))), savedChanges);
+        assertEquals(List.of(data), savedData);
+    }
+
+    @Test
+    public void flush_afterChangeCannotBeApplied_dataSavedInFull() throws Exception {
+        MedLogger data = new MedLogger();
+        data.addPerson(ALICE);
+        MedLoggerSaver saver = new MedLoggerSaver(createStorage(), data, Runnable::run);
+
+        saver.submit(List.of(MedLoggerChange.addPerson(ALICE)));
+        saver.flush();
+
+        assertEquals(List.of(data), fullySavedData);
+    }
+
+    private StorageManager createStorage() {
+        JsonMedLoggerStorage medLoggerStorage = new JsonMedLoggerStorage(temporaryFolder.resolve("medLogger.json")) {
+            @Override
+            public void saveMedLoggerChanges(ReadOnlyMedLogger medLogger, List<MedLoggerChange> changes)
+                    throws IOException {
+                if (isFailing) {
+                    throw new IOException("dummy IO exception");
+                }
+                if (runtimeFailure != null) {
+                    throw runtimeFailure;
+                }
+                savedChanges.add(changes);
+                savedData.add(new MedLogger(medLogger));
+            }
+
+            @Override
+            public void saveMedLogger(ReadOnlyMedLogger medLogger, Path filePath) {
+                fullySavedData.add(new MedLogger(medLogger));
+            }
+        };
+        return new StorageManager(medLoggerStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.MedLogger;
+import seedu.address.model.MedLoggerChange;
+import seedu.address.model.person.DateTime;
+import seedu.address.model.person.Diagnosis;
+import seedu.address.model.person.FollowUp;
+import seedu.address.model.person.Medication;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Symptom;
+import seedu.address.model.person.Visit;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
+
+public class SavedMedLoggerTest {
+
+    private final List<MedLoggerChange> changes = new ArrayList<>();
+    private MedLogger medLogger;
+    private SavedMedLogger savedMedLogger;
+
+    @BeforeEach
+    public void setUp() {
+        medLogger = new MedLogger();
+        medLogger.addPerson(ALICE);
+        medLogger.addPerson(BENSON);
+        medLogger.addVisit(createVisit(ALICE, "2024-01-01 10:00"));
+        medLogger.addVisit(createVisit(BENSON, "2024-01-02 10:00"));
+        medLogger.addVisit(createVisit(ALICE, "2024-01-03 10:00"));
+        savedMedLogger = new SavedMedLogger(medLogger);
+        medLogger.addListener(changes::add);
+    }
+
+    @Test
+    public void apply_changes_sameDataAsMedLogger() {
+        Person editedAlice = new PersonBuilder(ALICE).withNric("S7654321Z").build();
+        medLogger.setPerson(ALICE, editedAlice);
+        medLogger.addPerson(CARL);
+        medLogger.addVisit(createVisit(CARL, "2024-01-04 10:00"));
+        medLogger.removeVisit(createVisit(BENSON, "2024-01-02 10:00"));
+        medLogger.removePerson(CARL);
+
+        changes.forEach(savedMedLogger::apply);
+
+        assertEquals(medLogger.getPersonList(), savedMedLogger.getPersonList());
+        assertEquals(medLogger.getVisitList(), savedMedLogger.getVisitList());
+        assertEquals(medLogger.getVisitList().stream().map(Visit::getId).collect(Collectors.toList()),
+                savedMedLogger.getVisitList().stream().map(Visit::getId).collect(Collectors.toList()));
+        assertEquals(medLogger.getDictionary().getDictionary(), savedMedLogger.getDictionary().getDictionary());
+        assertEquals(Optional.of(editedAlice), savedMedLogger.getPersonByNric(editedAlice.getNric()));
+    }
+
+    @Test
+    public void apply_changeDoesNotFit_throwsException() {
+        assertThrows(PersonNotFoundException.class, () ->
+                savedMedLogger.apply(MedLoggerChange.removePerson(CARL)));
+        assertThrows(IllegalArgumentException.class, () ->
+                savedMedLogger.apply(MedLoggerChange.addVisit(createVisit(ALICE, "2024-02-01 10:00"))));
+    }
+
+    private static Visit createVisit(Person person, String dateTime) {
+        return new Visit(person, new DateTime(dateTime), new Remark(""), new Symptom(""),
+                new Diagnosis(""), new Medication(""), new FollowUp(""));
+    }
+}
@@ -10,8 +10,12 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,12 +25,16 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.MedLogger;
+import seedu.address.model.MedLoggerChange;
 import seedu.address.model.Model;
+import seedu.address.model.PagedListType;
+import seedu.address.model.QueryCacheStatistics;
 import seedu.address.model.ReadOnlyMedLogger;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Visit;
+import seedu.address.model.person.VisitQuery;
 import seedu.address.testutil.PersonBuilder;
 
 
@@ -143,6 +151,21 @@ public class AddPersonCommandTest {
         public void clearVisits() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void batch(Runnable changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addMedLoggerListener(Consumer<MedLoggerChange> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getMedLoggerVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public void setMedLogger(ReadOnlyMedLogger newData) {
             throw new AssertionError("This method should not be called.");
@@ -163,6 +186,16 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Nric> getNricsWithNameWords(Collection<String> words) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<QueryCacheStatistics> getQueryCacheStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasVisit(Visit visit) {
             throw new AssertionError("This method should not be called.");
@@ -208,11 +241,36 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredVisitList(VisitQuery query, Predicate<Visit> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateSubFilteredVisitList(int n) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean showNextPage() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean showPreviousPage() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean showNextPage(PagedListType listType) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean showPreviousPage(PagedListType listType) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public int size() {
             throw new AssertionError("This method should not be called.");
@@ -223,6 +281,11 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void sortFilteredVisitList(Comparator<Visit> comparator, int n) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Visit> getSortedVisitList() {
             throw new AssertionError("This method should not be called.");
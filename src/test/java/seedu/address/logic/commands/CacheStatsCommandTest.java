@@ -0,0 +1,28 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalMedLogger;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class CacheStatsCommandTest {
+
+    @Test
+    public void execute_repeatedFind_hitCounted() {
+        Model model = new ModelManager(getTypicalMedLogger(), new UserPrefs());
+        model.getNricsWithNameWords(List.of("Kurz"));
+        model.getNricsWithNameWords(List.of("kurz"));
+
+        CommandResult result = new CacheStatsCommand().execute(model);
+
+        assertEquals(String.format(CacheStatsCommand.MESSAGE_SUCCESS,
+                "listvisits: 0 hits, 0 misses (up to 32 results)\n"
+                + "find: 1 hits, 1 misses (up to 32 results)"), result.getFeedbackToUser());
+    }
+}
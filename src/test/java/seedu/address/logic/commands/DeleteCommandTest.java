@@ -8,16 +8,30 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalMedLogger;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
+import seedu.address.model.MedLogger;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.DateTime;
+import seedu.address.model.person.Diagnosis;
+import seedu.address.model.person.FollowUp;
+import seedu.address.model.person.Medication;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Symptom;
+import seedu.address.model.person.Visit;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -101,6 +115,20 @@ public class DeleteCommandTest {
         assertFalse(deleteFirstCommand.equals(deleteSecondCommand));
     }
 
+    @Test
+    public void execute_personWithVisits_personListUpdatedAfterVisitsDeleted() throws Exception {
+        Visit visit = new Visit(ALICE, new DateTime("2024-01-01 10:00"), new Remark(""), new Symptom(""),
+                new Diagnosis(""), new Medication(""), new FollowUp(""));
+        Model model = new ModelManager(new MedLogger(List.of(ALICE), List.of(visit)), new UserPrefs());
+        List<Integer> visitCountsSeen = new ArrayList<>();
+        model.getFilteredPersonList().addListener((ListChangeListener<Person>) change ->
+                visitCountsSeen.add(model.getMedLogger().getVisitList().size()));
+
+        new DeleteCommand(INDEX_FIRST_PERSON).execute(model);
+
+        assertEquals(List.of(0), visitCountsSeen);
+    }
+
     @Test
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
@@ -13,10 +13,17 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalMedLogger;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.EditPersonCommand.EditPersonDescriptor;
@@ -24,7 +31,14 @@ import seedu.address.model.MedLogger;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.DateTime;
+import seedu.address.model.person.Diagnosis;
+import seedu.address.model.person.FollowUp;
+import seedu.address.model.person.Medication;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Symptom;
+import seedu.address.model.person.Visit;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -175,6 +189,21 @@ public class EditCommandTest {
         assertFalse(standardCommand.equals(new EditPersonCommand(INDEX_FIRST_PERSON, DESC_BOB)));
     }
 
+    @Test
+    public void execute_nricChanged_personListUpdatedAfterVisitsMoved() throws Exception {
+        Visit visit = new Visit(ALICE, new DateTime("2024-01-01 10:00"), new Remark(""), new Symptom(""),
+                new Diagnosis(""), new Medication(""), new FollowUp(""));
+        Model model = new ModelManager(new MedLogger(List.of(ALICE), List.of(visit)), new UserPrefs());
+        Set<String> visitNricsSeen = new HashSet<>();
+        model.getFilteredPersonList().addListener((ListChangeListener<Person>) change ->
+                model.getMedLogger().getVisitList().forEach(v -> visitNricsSeen.add(v.getNric().toString())));
+
+        new EditPersonCommand(INDEX_FIRST_PERSON, new EditPersonDescriptorBuilder().withNric("S7654321Z").build())
+                .execute(model);
+
+        assertEquals(Set.of("S7654321Z"), visitNricsSeen);
+    }
+
     @Test
     public void toStringMethod() {
         Index index = Index.fromOneBased(1);
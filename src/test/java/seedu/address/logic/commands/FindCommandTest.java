@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
@@ -19,6 +20,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +77,20 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_personsChangedAfterFind_listKeptUpToDate() {
+        new FindCommand(preparePredicate("Kurz Elle Kunz")).execute(model);
+
+        // a person edited to a matching name is listed
+        Person aliceKurz = new PersonBuilder(ALICE).withName("Alice Kurz").build();
+        model.setPerson(ALICE, aliceKurz);
+        assertEquals(Arrays.asList(aliceKurz, CARL, ELLE, FIONA), model.getFilteredPersonList());
+
+        // a person edited to a name that no longer matches, under the same NRIC, is no longer listed
+        model.setPerson(CARL, new PersonBuilder(CARL).withName("Carl Meier").build());
+        assertEquals(Arrays.asList(aliceKurz, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalMedLogger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PagedListType;
+import seedu.address.model.UserPrefs;
+
+public class NextPageCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalMedLogger(), new UserPrefs());
+        expectedModel = new ModelManager(model.getMedLogger(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_listNotLimited_failure() {
+        assertCommandFailure(new NextPageCommand(), model, NextPageCommand.MESSAGE_NO_NEXT_PAGE);
+    }
+
+    @Test
+    public void execute_limitedList_showsNextPage() {
+        model.updateSubFilteredPersonList(3);
+        expectedModel.updateSubFilteredPersonList(3);
+        expectedModel.showNextPage();
+        assertCommandSuccess(new NextPageCommand(), model, NextPageCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_bothListsLimited_onlyMostRecentlyLimitedListPaged() {
+        model.updateSubFilteredPersonList(3);
+        model.updateSubFilteredVisitList(3);
+        expectedModel.updateSubFilteredPersonList(3);
+        expectedModel.updateSubFilteredVisitList(3);
+
+        // there are no visits to page through, and the person list stays on its first page
+        assertCommandFailure(new NextPageCommand(), model, NextPageCommand.MESSAGE_NO_NEXT_PAGE);
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+
+        expectedModel.showNextPage(PagedListType.PERSONS);
+        assertCommandSuccess(new NextPageCommand(PagedListType.PERSONS), model, NextPageCommand.MESSAGE_SUCCESS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_mostRecentlyLimitedListShownInFull_otherListPaged() {
+        model.updateSubFilteredPersonList(3);
+        model.updateSubFilteredVisitList(3);
+        model.updateFilteredVisitList(Model.PREDICATE_SHOW_ALL_VISITS);
+        expectedModel.updateSubFilteredPersonList(3);
+        expectedModel.showNextPage(PagedListType.PERSONS);
+        assertCommandSuccess(new NextPageCommand(), model, NextPageCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        NextPageCommand nextCommand = new NextPageCommand();
+        NextPageCommand nextVisitsCommand = new NextPageCommand(PagedListType.VISITS);
+
+        assertTrue(nextCommand.equals(nextCommand));
+        assertTrue(nextCommand.equals(new NextPageCommand()));
+        assertTrue(nextVisitsCommand.equals(new NextPageCommand(PagedListType.VISITS)));
+        assertFalse(nextCommand.equals(null));
+        assertFalse(nextCommand.equals(new PreviousPageCommand()));
+        assertFalse(nextCommand.equals(nextVisitsCommand));
+        assertFalse(nextVisitsCommand.equals(new NextPageCommand(PagedListType.PERSONS)));
+    }
+
+    @Test
+    public void execute_lastPage_failure() {
+        model.updateSubFilteredPersonList(4);
+        model.showNextPage();
+        assertCommandFailure(new NextPageCommand(), model, NextPageCommand.MESSAGE_NO_NEXT_PAGE);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalMedLogger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PagedListType;
+import seedu.address.model.UserPrefs;
+
+public class PreviousPageCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalMedLogger(), new UserPrefs());
+        expectedModel = new ModelManager(model.getMedLogger(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_firstPage_failure() {
+        model.updateSubFilteredPersonList(3);
+        assertCommandFailure(new PreviousPageCommand(), model, PreviousPageCommand.MESSAGE_NO_PREVIOUS_PAGE);
+    }
+
+    @Test
+    public void execute_listGiven_onlyThatListPaged() {
+        model.updateSubFilteredPersonList(3);
+        model.showNextPage();
+        model.updateSubFilteredVisitList(3);
+        expectedModel.updateSubFilteredPersonList(3);
+        expectedModel.updateSubFilteredVisitList(3);
+        assertCommandSuccess(new PreviousPageCommand(PagedListType.PERSONS), model,
+                PreviousPageCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_secondPage_showsFirstPage() {
+        model.updateSubFilteredPersonList(3);
+        model.showNextPage();
+        expectedModel.updateSubFilteredPersonList(3);
+        assertCommandSuccess(new PreviousPageCommand(), model, PreviousPageCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
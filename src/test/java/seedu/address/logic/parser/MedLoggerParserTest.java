@@ -17,6 +17,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddPersonCommand;
+import seedu.address.logic.commands.CacheStatsCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditPersonCommand;
@@ -26,8 +27,11 @@ import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.NextPageCommand;
+import seedu.address.logic.commands.PreviousPageCommand;
 import seedu.address.logic.commands.RemarkCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.PagedListType;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Remark;
@@ -74,6 +78,23 @@ public class MedLoggerParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_cacheStats() throws Exception {
+        assertTrue(parser.parseCommand(CacheStatsCommand.COMMAND_WORD) instanceof CacheStatsCommand);
+        assertTrue(parser.parseCommand(CacheStatsCommand.COMMAND_WORD + " 3") instanceof CacheStatsCommand);
+    }
+
+    @Test
+    public void parseCommand_nextAndPrev() throws Exception {
+        assertTrue(parser.parseCommand(NextPageCommand.COMMAND_WORD) instanceof NextPageCommand);
+        assertTrue(parser.parseCommand(PreviousPageCommand.COMMAND_WORD) instanceof PreviousPageCommand);
+        assertEquals(new NextPageCommand(PagedListType.VISITS),
+                parser.parseCommand(NextPageCommand.COMMAND_WORD + " visits"));
+        assertEquals(new PreviousPageCommand(PagedListType.PERSONS),
+                parser.parseCommand(PreviousPageCommand.COMMAND_WORD + " Persons"));
+        assertThrows(ParseException.class, () -> parser.parseCommand(NextPageCommand.COMMAND_WORD + " tags"));
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -15,6 +15,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.PagedListType;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -240,4 +241,16 @@ public class ParserUtilTest {
     public void parseFileType_emptyWord_throwsParseException() throws ParseException {
         assertThrows(ParseException.class, () -> ParserUtil.parseFileType(""));
     }
+
+    @Test
+    public void parsePagedListType_validList_returnsListType() throws Exception {
+        assertEquals(PagedListType.PERSONS, ParserUtil.parsePagedListType("persons"));
+        assertEquals(PagedListType.VISITS, ParserUtil.parsePagedListType("  VISITS "));
+    }
+
+    @Test
+    public void parsePagedListType_invalidList_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parsePagedListType("visit"));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePagedListType(""));
+    }
 }
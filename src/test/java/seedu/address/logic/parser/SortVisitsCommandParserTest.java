@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortVisitsCommand;
+
+public class SortVisitsCommandParserTest {
+
+    private final SortVisitsCommandParser parser = new SortVisitsCommandParser();
+
+    @Test
+    public void parse_direction_success() {
+        assertParseSuccess(parser, "", new SortVisitsCommand(false));
+        assertParseSuccess(parser, " DESC ", new SortVisitsCommand(true));
+    }
+
+    @Test
+    public void parse_limit_success() {
+        assertParseSuccess(parser, " l/20", new SortVisitsCommand(false, 20));
+        assertParseSuccess(parser, " desc l/20", new SortVisitsCommand(true, 20));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " sideways", "Invalid sort direction. Use either:\n"
+                + "  sortvisits [l/LIMIT]        (ascending)\n"
+                + "  sortvisits desc [l/LIMIT]   (descending)");
+        assertParseFailure(parser, " desc l/-1", "Limit must be non-negative integer");
+        assertParseFailure(parser, " desc l/many", "Limit must be non-negative integer");
+    }
+}
@@ -2,26 +2,42 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalMedLogger;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.DateTime;
+import seedu.address.model.person.Diagnosis;
+import seedu.address.model.person.FollowUp;
+import seedu.address.model.person.Medication;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonVisitDictionary;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Symptom;
 import seedu.address.model.person.Visit;
+import seedu.address.model.person.VisitQuery;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.DuplicateVisitException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
 
 public class MedLoggerTest {
@@ -33,6 +49,33 @@ public class MedLoggerTest {
         assertEquals(Collections.emptyList(), medLogger.getPersonList());
     }
 
+    @Test
+    public void constructor_personsAndVisits_buildsListsAndDictionary() {
+        Visit aliceVisit = createVisit(ALICE);
+        MedLogger bulkMedLogger = new MedLogger(List.of(ALICE, BENSON), List.of(aliceVisit));
+
+        MedLogger expectedMedLogger = new MedLogger();
+        expectedMedLogger.addPerson(ALICE);
+        expectedMedLogger.addPerson(BENSON);
+        expectedMedLogger.addVisit(aliceVisit);
+
+        assertEquals(expectedMedLogger, bulkMedLogger);
+        assertEquals(expectedMedLogger.getVisitList(), bulkMedLogger.getVisitList());
+        assertEquals(expectedMedLogger.getDictionary().getDictionary(), bulkMedLogger.getDictionary().getDictionary());
+    }
+
+    @Test
+    public void constructor_duplicateVisits_throwsDuplicateVisitException() {
+        assertThrows(DuplicateVisitException.class, () ->
+                new MedLogger(List.of(ALICE), List.of(createVisit(ALICE), createVisit(ALICE))));
+    }
+
+    @Test
+    public void constructor_visitWithoutPerson_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () ->
+                new MedLogger(List.of(ALICE), List.of(createVisit(BENSON))));
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> medLogger.resetData(null));
@@ -85,6 +128,197 @@ public class MedLoggerTest {
         assertThrows(UnsupportedOperationException.class, () -> medLogger.getPersonList().remove(0));
     }
 
+    @Test
+    public void addListener_mutations_reportedInOrder() {
+        List<MedLoggerChange> changes = new ArrayList<>();
+        medLogger.addListener(changes::add);
+        Visit aliceVisit = createVisit(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        medLogger.addPerson(ALICE);
+        medLogger.addVisit(aliceVisit);
+        medLogger.setPerson(ALICE, editedAlice);
+        medLogger.clearVisits();
+        medLogger.removePerson(editedAlice);
+
+        assertEquals(List.of(MedLoggerChange.addPerson(ALICE), MedLoggerChange.addVisit(aliceVisit),
+                MedLoggerChange.setPerson(ALICE, editedAlice), MedLoggerChange.clearVisits(),
+                MedLoggerChange.removePerson(editedAlice)), changes);
+    }
+
+    @Test
+    public void clearVisits_manyVisits_singleListChange() {
+        medLogger.addPerson(ALICE);
+        medLogger.addPerson(BENSON);
+        medLogger.addVisit(createVisit(ALICE, "2024-01-01 10:00"));
+        medLogger.addVisit(createVisit(BENSON, "2024-01-02 10:00"));
+        medLogger.addVisit(createVisit(ALICE, "2024-01-03 10:00"));
+        List<ListChangeListener.Change<? extends Visit>> listChanges = new ArrayList<>();
+        medLogger.getVisitList().addListener((ListChangeListener<Visit>) listChanges::add);
+
+        medLogger.clearVisits();
+
+        assertEquals(1, listChanges.size());
+        assertTrue(medLogger.getVisitList().isEmpty());
+        assertTrue(medLogger.getDictionary().getVisitsForPerson(ALICE).isEmpty());
+        assertTrue(medLogger.hasPerson(BENSON));
+    }
+
+    @Test
+    public void removePerson_personWithVisits_visitsRemovedInSingleListChange() {
+        medLogger.addPerson(ALICE);
+        medLogger.addPerson(BENSON);
+        medLogger.addVisit(createVisit(ALICE, "2024-01-01 10:00"));
+        medLogger.addVisit(createVisit(BENSON, "2024-01-02 10:00"));
+        medLogger.addVisit(createVisit(ALICE, "2024-01-03 10:00"));
+        Visit bensonVisit = medLogger.getVisitList().get(1);
+        List<ListChangeListener.Change<? extends Visit>> listChanges = new ArrayList<>();
+        medLogger.getVisitList().addListener((ListChangeListener<Visit>) listChanges::add);
+
+        medLogger.removePerson(ALICE);
+
+        assertEquals(1, listChanges.size());
+        assertEquals(List.of(bensonVisit), medLogger.getVisitList());
+        // the remaining visit is still found by its ID after moving up the list
+        medLogger.removeVisit(bensonVisit);
+        assertTrue(medLogger.getVisitList().isEmpty());
+    }
+
+    @Test
+    public void batch_manyChanges_singleListChangeAndChangesReportedAfterwards() {
+        List<ListChangeListener.Change<? extends Visit>> listChanges = new ArrayList<>();
+        medLogger.getVisitList().addListener((ListChangeListener<Visit>) listChanges::add);
+        List<MedLoggerChange> changes = new ArrayList<>();
+        medLogger.addListener(changes::add);
+        Visit firstVisit = createVisit(ALICE, "2024-01-01 10:00");
+        Visit secondVisit = createVisit(ALICE, "2024-01-02 10:00");
+
+        medLogger.batch(() -> {
+            medLogger.addPerson(ALICE);
+            medLogger.addVisit(firstVisit);
+            medLogger.addVisit(secondVisit);
+            assertTrue(changes.isEmpty());
+        });
+
+        assertEquals(1, listChanges.size());
+        assertEquals(List.of(firstVisit, secondVisit), medLogger.getVisitList());
+        assertEquals(List.of(MedLoggerChange.addPerson(ALICE), MedLoggerChange.addVisit(firstVisit),
+                MedLoggerChange.addVisit(secondVisit)), changes);
+    }
+
+    @Test
+    public void batch_changeFails_earlierChangesKeptAndReported() {
+        List<MedLoggerChange> changes = new ArrayList<>();
+        medLogger.addListener(changes::add);
+
+        assertThrows(DuplicatePersonException.class, () -> medLogger.batch(() -> {
+            medLogger.addPerson(ALICE);
+            medLogger.addPerson(ALICE);
+        }));
+
+        assertTrue(medLogger.hasPerson(ALICE));
+        assertEquals(List.of(MedLoggerChange.addPerson(ALICE)), changes);
+    }
+
+    @Test
+    public void setPerson_sameNric_visitsUnchanged() {
+        medLogger.addPerson(ALICE);
+        medLogger.addVisit(createVisit(ALICE));
+        Visit aliceVisit = medLogger.getVisitList().get(0);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        medLogger.setPerson(ALICE, editedAlice);
+
+        assertSame(aliceVisit, medLogger.getVisitList().get(0));
+        assertEquals(List.of(aliceVisit), List.copyOf(medLogger.getDictionary().getVisitsForPerson(editedAlice)));
+        assertEquals(Optional.of(editedAlice), medLogger.getPersonByNric(aliceVisit.getNric()));
+    }
+
+    @Test
+    public void setPerson_differentNric_visitsMovedToNewNric() {
+        medLogger.addPerson(ALICE);
+        medLogger.addVisit(createVisit(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE).withNric("S7654321Z").build();
+        medLogger.setPerson(ALICE, editedAlice);
+
+        Visit movedVisit = createVisit(editedAlice);
+        assertEquals(List.of(movedVisit), medLogger.getVisitList());
+        assertEquals(List.of(movedVisit), List.copyOf(medLogger.getDictionary().getVisitsForPerson(editedAlice)));
+        assertTrue(medLogger.getDictionary().getVisitsForPerson(ALICE).isEmpty());
+    }
+
+    @Test
+    public void getVisitsMatching_repeatedQuery_cachedUntilVisitsChange() {
+        medLogger.addPerson(ALICE);
+        Visit januaryVisit = createVisit(ALICE, "2024-01-01 10:00");
+        medLogger.addVisit(januaryVisit);
+        VisitQuery query = new VisitQuery(new DateTime("2024-01-01 00:00"), null, Map.of());
+
+        assertEquals(List.of(januaryVisit), medLogger.getVisitsMatching(query));
+        assertEquals(List.of(januaryVisit), medLogger.getVisitsMatching(query));
+        // adding a person cannot change which visits match
+        medLogger.addPerson(BENSON);
+        medLogger.getVisitsMatching(query);
+        assertEquals(new QueryCacheStatistics("listvisits", 2, 1, 32), medLogger.getQueryCacheStatistics().get(0));
+
+        Visit februaryVisit = createVisit(BENSON, "2024-02-01 10:00");
+        medLogger.addVisit(februaryVisit);
+        assertEquals(List.of(januaryVisit, februaryVisit), medLogger.getVisitsMatching(query));
+        assertEquals(2, medLogger.getQueryCacheStatistics().get(0).getMisses());
+    }
+
+    @Test
+    public void getNricsWithNameWords_sameWords_cachedUntilPersonsChange() {
+        medLogger.addPerson(ALICE);
+        medLogger.addPerson(BENSON);
+
+        assertEquals(Set.of(BENSON.getNric()), medLogger.getNricsWithNameWords(List.of("benson", "MEIER")));
+        // the same words in another order and case are the same query
+        assertEquals(Set.of(BENSON.getNric()), medLogger.getNricsWithNameWords(List.of("meier", "Benson")));
+        // adding a visit cannot change which names match
+        medLogger.addVisit(createVisit(BENSON));
+        medLogger.getNricsWithNameWords(List.of("benson", "meier"));
+        assertEquals(new QueryCacheStatistics("find", 2, 1, 32), medLogger.getQueryCacheStatistics().get(1));
+
+        medLogger.removePerson(BENSON);
+        assertEquals(Set.of(), medLogger.getNricsWithNameWords(List.of("benson", "meier")));
+        assertEquals(2, medLogger.getQueryCacheStatistics().get(1).getMisses());
+    }
+
+    @Test
+    public void getVersion_changedOnlyByMutations() {
+        long initialVersion = medLogger.getVersion();
+        medLogger.hasPerson(ALICE);
+        assertEquals(initialVersion, medLogger.getVersion());
+
+        medLogger.addPerson(ALICE);
+        long versionAfterAdd = medLogger.getVersion();
+        assertTrue(versionAfterAdd != initialVersion);
+
+        medLogger.removePerson(ALICE);
+        assertTrue(medLogger.getVersion() != versionAfterAdd);
+    }
+
+    @Test
+    public void applyTo_reportedChanges_reproducesData() {
+        MedLogger original = getTypicalMedLogger();
+        MedLogger copy = new MedLogger(original);
+        List<MedLoggerChange> changes = new ArrayList<>();
+        original.addListener(changes::add);
+
+        Visit aliceVisit = createVisit(ALICE);
+        original.addVisit(aliceVisit);
+        original.addVisit(createVisit(BENSON));
+        original.setVisit(aliceVisit, new Visit(ALICE, new DateTime("2024-02-01 10:00"), new Remark(""),
+                new Symptom("Cough"), new Diagnosis(""), new Medication(""), new FollowUp("")));
+        original.removePerson(BENSON);
+
+        changes.forEach(change -> change.applyTo(copy));
+        assertEquals(original.getPersonList(), copy.getPersonList());
+        assertEquals(original.getVisitList(), copy.getVisitList());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = MedLogger.class.getCanonicalName() + "{persons=" + medLogger.getPersonList()
@@ -92,6 +326,15 @@ public class MedLoggerTest {
         assertEquals(expected, medLogger.toString());
     }
 
+    private static Visit createVisit(Person person) {
+        return createVisit(person, "2024-01-01 10:00");
+    }
+
+    private static Visit createVisit(Person person, String dateTime) {
+        return new Visit(person, new DateTime(dateTime), new Remark(""), new Symptom(""),
+                new Diagnosis(""), new Medication(""), new FollowUp(""));
+    }
+
     /**
      * A stub ReadOnlyMedLogger whose persons list can violate interface constraints.
      */
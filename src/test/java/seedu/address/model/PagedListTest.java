@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class PagedListTest {
+
+    private ObservableList<Integer> source;
+    private PagedList<Integer> pagedList;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList(1, 2, 3, 4, 5);
+        pagedList = new PagedList<>(source);
+    }
+
+    @Test
+    public void constructor_notPaged_followsSource() {
+        source.add(6);
+        source.remove(Integer.valueOf(1));
+        assertEquals(List.of(2, 3, 4, 5, 6), pagedList.asUnmodifiableObservableList());
+        assertFalse(pagedList.showNextPage());
+    }
+
+    @Test
+    public void showFirstPage_negativeSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> pagedList.showFirstPage(-1));
+    }
+
+    @Test
+    public void showNextPage_throughPages_showsEachPageThenStops() {
+        pagedList.showFirstPage(2);
+        assertEquals(List.of(1, 2), pagedList.asUnmodifiableObservableList());
+
+        assertTrue(pagedList.showNextPage());
+        assertEquals(List.of(3, 4), pagedList.asUnmodifiableObservableList());
+        assertTrue(pagedList.showNextPage());
+        assertEquals(List.of(5), pagedList.asUnmodifiableObservableList());
+        assertFalse(pagedList.showNextPage());
+
+        assertTrue(pagedList.showPreviousPage());
+        assertTrue(pagedList.showPreviousPage());
+        assertEquals(List.of(1, 2), pagedList.asUnmodifiableObservableList());
+        assertFalse(pagedList.showPreviousPage());
+    }
+
+    @Test
+    public void sourceChanged_paged_pageRefreshedAndKeptInRange() {
+        pagedList.showFirstPage(2);
+        pagedList.showNextPage();
+        pagedList.showNextPage();
+
+        source.add(0, 0);
+        assertEquals(List.of(4, 5), pagedList.asUnmodifiableObservableList());
+
+        source.remove(4, 6);
+        assertEquals(2, pagedList.getOffset());
+        assertEquals(List.of(2, 3), pagedList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void showAll_afterPaging_showsEverything() {
+        pagedList.showFirstPage(2);
+        pagedList.showNextPage();
+        pagedList.showAll();
+        assertFalse(pagedList.isPaged());
+        assertEquals(source, pagedList.asUnmodifiableObservableList());
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class QueryCacheTest {
+
+    private final List<String> lookups = new ArrayList<>();
+    private final QueryCache<String, String> cache = new QueryCache<>("test", 2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryCache<String, String>("test", 0));
+    }
+
+    @Test
+    public void get_repeatedQuery_lookedUpOnce() {
+        assertEquals("A", get("a"));
+        assertEquals("A", get("a"));
+        assertEquals(List.of("a"), lookups);
+        assertEquals(new QueryCacheStatistics("test", 1, 1, 2), cache.getStatistics());
+    }
+
+    @Test
+    public void get_afterInvalidate_lookedUpAgain() {
+        get("a");
+        cache.invalidate();
+        get("a");
+        get("a");
+        assertEquals(List.of("a", "a"), lookups);
+    }
+
+    @Test
+    public void get_overCapacity_leastRecentlyUsedEvicted() {
+        get("a");
+        get("b");
+        get("a");
+        get("c");
+        lookups.clear();
+
+        get("a");
+        get("c");
+        get("b");
+        assertEquals(List.of("b"), lookups);
+    }
+
+    private String get(String query) {
+        return cache.get(query, q -> {
+            lookups.add(q);
+            return q.toUpperCase();
+        });
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.DateTime;
+import seedu.address.model.person.Diagnosis;
+import seedu.address.model.person.FollowUp;
+import seedu.address.model.person.Medication;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Symptom;
+import seedu.address.model.person.Visit;
+
+public class TopVisitListTest {
+
+    private static final Comparator<Visit> LATEST_FIRST = Comparator.comparing(Visit::getDateTime).reversed();
+
+    private MedLogger medLogger;
+    private TopVisitList topVisitList;
+    private Visit januaryVisit;
+    private Visit februaryVisit;
+    private Visit marchVisit;
+
+    @BeforeEach
+    public void setUp() {
+        medLogger = new MedLogger();
+        medLogger.addPerson(ALICE);
+        medLogger.addPerson(BENSON);
+        marchVisit = createVisit(ALICE, "2024-03-01 10:00");
+        januaryVisit = createVisit(BENSON, "2024-01-01 10:00");
+        februaryVisit = createVisit(ALICE, "2024-02-01 10:00");
+        medLogger.addVisit(marchVisit);
+        medLogger.addVisit(januaryVisit);
+        medLogger.addVisit(februaryVisit);
+        topVisitList = new TopVisitList(medLogger.getVisitList());
+    }
+
+    @Test
+    public void constructor_notLimited_followsSource() {
+        Visit aprilVisit = createVisit(BENSON, "2024-04-01 10:00");
+        medLogger.addVisit(aprilVisit);
+        medLogger.removeVisit(januaryVisit);
+        assertEquals(medLogger.getVisitList(), topVisitList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void showTop_negativeLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> topVisitList.showTop(LATEST_FIRST, -1));
+    }
+
+    @Test
+    public void showTop_limit_firstVisitsInOrder() {
+        topVisitList.showTop(LATEST_FIRST, 2);
+        assertEquals(List.of(marchVisit, februaryVisit), topVisitList.asUnmodifiableObservableList());
+
+        topVisitList.showTop(LATEST_FIRST, 0);
+        assertEquals(List.of(), topVisitList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void showTop_visitAdded_takesPlaceOfLastVisitOnlyIfBefore() {
+        topVisitList.showTop(LATEST_FIRST, 2);
+
+        medLogger.addVisit(createVisit(BENSON, "2023-12-01 10:00"));
+        assertEquals(List.of(marchVisit, februaryVisit), topVisitList.asUnmodifiableObservableList());
+
+        Visit aprilVisit = createVisit(BENSON, "2024-04-01 10:00");
+        medLogger.addVisit(aprilVisit);
+        assertEquals(List.of(aprilVisit, marchVisit), topVisitList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void showTop_topVisitRemoved_nextVisitTakesItsPlace() {
+        topVisitList.showTop(LATEST_FIRST, 2);
+
+        medLogger.removeVisit(marchVisit);
+        assertEquals(List.of(februaryVisit, januaryVisit), topVisitList.asUnmodifiableObservableList());
+
+        medLogger.clearVisits();
+        assertEquals(List.of(), topVisitList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void showTop_topVisitEdited_reordered() {
+        topVisitList.showTop(LATEST_FIRST, 2);
+
+        Visit editedJanuaryVisit = createVisit(BENSON, "2024-02-15 10:00");
+        medLogger.setVisit(januaryVisit, editedJanuaryVisit);
+        assertEquals(List.of(marchVisit, editedJanuaryVisit), topVisitList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void showAll_afterShowTop_followsSourceAgain() {
+        topVisitList.showTop(LATEST_FIRST, 1);
+        topVisitList.showAll();
+        assertEquals(medLogger.getVisitList(), topVisitList.asUnmodifiableObservableList());
+    }
+
+    private static Visit createVisit(Person person, String dateTime) {
+        return new Visit(person, new DateTime(dateTime), new Remark(""), new Symptom("Fever"),
+                new Diagnosis("Flu"), new Medication(""), new FollowUp(""));
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.DateTime;
+import seedu.address.model.person.Diagnosis;
+import seedu.address.model.person.FollowUp;
+import seedu.address.model.person.Medication;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Symptom;
+import seedu.address.model.person.Visit;
+import seedu.address.model.person.VisitQuery;
+import seedu.address.model.person.VisitTextField;
+
+public class VisitQueryListTest {
+
+    private MedLogger medLogger;
+    private VisitQueryList visitQueryList;
+    private Visit januaryVisit;
+    private Visit februaryVisit;
+    private Visit marchVisit;
+
+    @BeforeEach
+    public void setUp() {
+        medLogger = new MedLogger();
+        medLogger.addPerson(ALICE);
+        medLogger.addPerson(BENSON);
+        marchVisit = createVisit(ALICE, "2024-03-01 10:00");
+        januaryVisit = createVisit(BENSON, "2024-01-01 10:00");
+        februaryVisit = createVisit(ALICE, "2024-02-01 10:00");
+        medLogger.addVisit(marchVisit);
+        medLogger.addVisit(januaryVisit);
+        medLogger.addVisit(februaryVisit);
+        visitQueryList = new VisitQueryList(medLogger);
+    }
+
+    @Test
+    public void constructor_allVisitsInMedLoggerOrder() {
+        assertEquals(medLogger.getVisitList(), visitQueryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setQuery_boundedRange_visitsInRangeByTime() {
+        visitQueryList.setQuery(createQuery("2024-01-01 10:00", "2024-02-01 10:00"));
+        assertEquals(List.of(januaryVisit, februaryVisit), visitQueryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setQuery_openEnds_visitsOnOneSide() {
+        visitQueryList.setQuery(createQuery("2024-02-01 00:00", null));
+        assertEquals(List.of(februaryVisit, marchVisit), visitQueryList.asUnmodifiableObservableList());
+
+        visitQueryList.setQuery(createQuery(null, "2024-02-01 00:00"));
+        assertEquals(List.of(januaryVisit), visitQueryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void visitsChanged_bounded_onlyVisitsInRangeFollowed() {
+        visitQueryList.setQuery(createQuery("2024-01-15 00:00", "2024-02-15 23:59"));
+
+        Visit addedInRange = createVisit(BENSON, "2024-01-20 10:00");
+        medLogger.addVisit(addedInRange);
+        medLogger.addVisit(createVisit(BENSON, "2024-04-01 10:00"));
+        assertEquals(List.of(addedInRange, februaryVisit), visitQueryList.asUnmodifiableObservableList());
+
+        medLogger.removeVisit(addedInRange);
+        Visit movedIntoRange = createVisit(ALICE, "2024-02-10 10:00");
+        medLogger.setVisit(marchVisit, movedIntoRange);
+        assertEquals(List.of(februaryVisit, movedIntoRange), visitQueryList.asUnmodifiableObservableList());
+
+        medLogger.setVisit(februaryVisit, createVisit(ALICE, "2024-05-01 10:00"));
+        assertEquals(List.of(movedIntoRange), visitQueryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setQuery_all_allVisitsInMedLoggerOrder() {
+        visitQueryList.setQuery(createQuery("2024-01-01 00:00", "2024-01-31 23:59"));
+        medLogger.addVisit(createVisit(ALICE, "2024-04-01 10:00"));
+
+        visitQueryList.setQuery(VisitQuery.ALL);
+
+        assertEquals(medLogger.getVisitList(), visitQueryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setQuery_text_matchingVisitsByTime() {
+        medLogger.addVisit(createVisit(BENSON, "2024-01-15 10:00", "Common cold"));
+        Visit coldVisit = createVisit(ALICE, "2024-01-10 10:00", "COLD sores");
+
+        visitQueryList.setQuery(new VisitQuery(null, null, Map.of(VisitTextField.DIAGNOSIS, "cold")));
+        medLogger.addVisit(coldVisit);
+
+        assertEquals(List.of(coldVisit, createVisit(BENSON, "2024-01-15 10:00", "Common cold")),
+                visitQueryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setQuery_person_onlyThatPersonsVisitsKeptUpToDate() {
+        Visit aprilVisit = createVisit(ALICE, "2024-04-01 10:00");
+
+        visitQueryList.setQuery(VisitQuery.forPerson(ALICE.getNric()));
+        medLogger.addVisit(createVisit(BENSON, "2024-04-02 10:00"));
+        medLogger.addVisit(aprilVisit);
+
+        assertEquals(List.of(februaryVisit, marchVisit, aprilVisit), visitQueryList.asUnmodifiableObservableList());
+    }
+
+    private static VisitQuery createQuery(String from, String to) {
+        return new VisitQuery(from == null ? null : new DateTime(from), to == null ? null : new DateTime(to), Map.of());
+    }
+
+    private static Visit createVisit(Person person, String dateTime) {
+        return createVisit(person, dateTime, "Flu");
+    }
+
+    private static Visit createVisit(Person person, String dateTime, String diagnosis) {
+        return new Visit(person, new DateTime(dateTime), new Remark(""), new Symptom("Fever"),
+                new Diagnosis(diagnosis), new Medication(""), new FollowUp(""));
+    }
+}
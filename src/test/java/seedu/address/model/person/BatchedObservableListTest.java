@@ -0,0 +1,41 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchedObservableListTest {
+
+    private final BatchedObservableList<String> list = new BatchedObservableList<>();
+    private int changeCount;
+
+    @BeforeEach
+    public void setUp() {
+        list.addAll(List.of("a", "b", "c", "d", "e", "f"));
+        list.addListener((ListChangeListener<String>) change -> changeCount++);
+    }
+
+    @Test
+    public void removeAll_separateRuns_removedAsOneChange() {
+        assertTrue(list.removeAll(Set.of("b", "c", "e")));
+
+        assertEquals(List.of("a", "d", "f"), list);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void removeAll_noneInList_listUnchangedAndNotReported() {
+        assertFalse(list.removeAll(Set.of("x")));
+
+        assertEquals(List.of("a", "b", "c", "d", "e", "f"), list);
+        assertEquals(0, changeCount);
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class DateTimeTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DateTime(null));
+    }
+
+    @Test
+    public void constructor_invalidDate_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DateTime("2024-02-30 10:00"));
+    }
+
+    @Test
+    public void isValidDate() {
+        // invalid dates
+        assertFalse(DateTime.isValidDate("")); // empty string
+        assertFalse(DateTime.isValidDate("2024-01-01")); // no time
+        assertFalse(DateTime.isValidDate("2024-01-01 10:00 ")); // trailing space
+        assertFalse(DateTime.isValidDate("2024/01/01 10:00")); // wrong separators
+        assertFalse(DateTime.isValidDate("2024-1-01 10:00")); // single-digit month
+        assertFalse(DateTime.isValidDate("2024-0a-01 10:00")); // non-digit
+        assertFalse(DateTime.isValidDate("2024-13-01 10:00")); // month out of range
+        assertFalse(DateTime.isValidDate("2024-04-31 10:00")); // day out of range for month
+        assertFalse(DateTime.isValidDate("2023-02-29 10:00")); // not a leap year
+        assertFalse(DateTime.isValidDate("1900-02-29 10:00")); // century not a leap year
+        assertFalse(DateTime.isValidDate("2024-01-01 24:00")); // hour out of range
+        assertFalse(DateTime.isValidDate("2024-01-01 10:60")); // minute out of range
+
+        // valid dates
+        assertTrue(DateTime.isValidDate("2024-02-29 23:59")); // leap year
+        assertTrue(DateTime.isValidDate("2000-02-29 00:00")); // leap century
+        assertTrue(DateTime.isValidDate("1969-12-31 23:59")); // before 1970
+    }
+
+    @Test
+    public void isValidDateOnly() {
+        assertFalse(DateTime.isValidDateOnly("2024-01-01 10:00")); // has time
+        assertFalse(DateTime.isValidDateOnly("2024-02-30")); // day out of range for month
+        assertTrue(DateTime.isValidDateOnly("2024-02-29"));
+    }
+
+    @Test
+    public void getEpochMinute_everyDayOfSeveralYears_sameAsLocalDateTime() {
+        for (LocalDate date = LocalDate.of(1896, 1, 1); date.getYear() < 2105; date = date.plusDays(1)) {
+            LocalDateTime dateTime = date.atTime(13, 7);
+            DateTime parsed = new DateTime(dateTime.format(DateTime.FORMATTER));
+            assertEquals(ChronoUnit.MINUTES.between(LocalDateTime.of(1970, 1, 1, 0, 0), dateTime),
+                    parsed.getEpochMinute());
+            assertEquals(dateTime, parsed.toLocalDateTime());
+        }
+    }
+
+    @Test
+    public void compareTo_chronologicalOrder() {
+        DateTime earlier = new DateTime("2023-12-31 23:59");
+        DateTime later = new DateTime("2024-01-01 00:00");
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(later.compareTo(earlier) > 0);
+        assertEquals(0, later.compareTo(new DateTime("2024-01-01 00:00")));
+    }
+
+    @Test
+    public void equals() {
+        DateTime dateTime = new DateTime("2024-01-01 10:00");
+
+        // same values -> returns true
+        assertTrue(dateTime.equals(new DateTime("2024-01-01 10:00")));
+
+        // same object -> returns true
+        assertTrue(dateTime.equals(dateTime));
+
+        // null -> returns false
+        assertFalse(dateTime.equals(null));
+
+        // different types -> returns false
+        assertFalse(dateTime.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(dateTime.equals(new DateTime("2024-01-01 10:01")));
+    }
+}
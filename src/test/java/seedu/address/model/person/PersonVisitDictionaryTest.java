@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.exceptions.DuplicateVisitException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.person.exceptions.VisitNotFoundException;
+
+public class PersonVisitDictionaryTest {
+
+    private static final Visit ALICE_EARLY_VISIT = createVisit(ALICE, "2024-01-01 10:00", "Flu");
+    private static final Visit ALICE_MIDDLE_VISIT = createVisit(ALICE, "2024-02-01 10:00", "Cough");
+    private static final Visit ALICE_LATE_VISIT = createVisit(ALICE, "2024-03-01 10:00", "Fever");
+
+    private final PersonVisitDictionary dictionary = new PersonVisitDictionary();
+
+    @Test
+    public void addVisit_personNotInDictionary_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> dictionary.addVisit(ALICE_EARLY_VISIT));
+    }
+
+    @Test
+    public void addVisit_duplicateVisit_throwsDuplicateVisitException() {
+        dictionary.addPerson(ALICE);
+        dictionary.addVisit(ALICE_EARLY_VISIT);
+        assertThrows(DuplicateVisitException.class, () ->
+                dictionary.addVisit(createVisit(ALICE, "2024-01-01 10:00", "Flu")));
+    }
+
+    @Test
+    public void addVisit_sameTimeDifferentDetails_bothKept() {
+        dictionary.addPerson(ALICE);
+        dictionary.addVisit(ALICE_EARLY_VISIT);
+        dictionary.addVisit(createVisit(ALICE, "2024-01-01 10:00", "Cough"));
+        assertEquals(2, dictionary.getVisitsForPerson(ALICE).size());
+    }
+
+    @Test
+    public void getVisitsForPerson_visitsAddedOutOfOrder_orderedByTime() {
+        dictionary.addPerson(ALICE);
+        dictionary.addVisit(ALICE_LATE_VISIT);
+        dictionary.addVisit(ALICE_EARLY_VISIT);
+        dictionary.addVisit(ALICE_MIDDLE_VISIT);
+        assertEquals(List.of(ALICE_EARLY_VISIT, ALICE_MIDDLE_VISIT, ALICE_LATE_VISIT),
+                List.copyOf(dictionary.getVisitsForPerson(ALICE)));
+    }
+
+    @Test
+    public void getVisitsForNric_otherPersonsVisits_onlyThatPersonsVisits() {
+        dictionary.setDictionary(List.of(ALICE, BENSON), List.of(ALICE_MIDDLE_VISIT, ALICE_LATE_VISIT,
+                ALICE_EARLY_VISIT, createVisit(BENSON, "2024-04-01 10:00", "Flu")));
+        assertEquals(List.of(ALICE_EARLY_VISIT, ALICE_MIDDLE_VISIT, ALICE_LATE_VISIT),
+                List.copyOf(dictionary.getVisitsForNric(ALICE.getNric())));
+        assertTrue(dictionary.getVisitsForNric(new Nric("S7654321Z")).isEmpty());
+    }
+
+    @Test
+    public void setVisit_newTime_reordered() {
+        dictionary.addPerson(ALICE);
+        dictionary.addVisit(ALICE_EARLY_VISIT);
+        dictionary.addVisit(ALICE_MIDDLE_VISIT);
+        Visit rescheduledVisit = createVisit(ALICE, "2024-05-01 10:00", "Flu");
+        dictionary.setVisit(ALICE_EARLY_VISIT, rescheduledVisit);
+        assertEquals(List.of(ALICE_MIDDLE_VISIT, rescheduledVisit), List.copyOf(dictionary.getVisitsForPerson(ALICE)));
+    }
+
+    @Test
+    public void removeVisit_visitNotInDictionary_throwsVisitNotFoundException() {
+        dictionary.addPerson(ALICE);
+        assertThrows(VisitNotFoundException.class, () -> dictionary.removeVisit(ALICE_EARLY_VISIT));
+    }
+
+    @Test
+    public void removePerson_existingPerson_visitsRemoved() {
+        dictionary.addPerson(ALICE);
+        dictionary.addVisit(ALICE_EARLY_VISIT);
+        dictionary.removePerson(ALICE);
+        assertTrue(dictionary.getVisitsForPerson(ALICE).isEmpty());
+    }
+
+    private static Visit createVisit(Person person, String dateTime, String diagnosis) {
+        return new Visit(person, new DateTime(dateTime), new Remark(""), new Symptom(""),
+                new Diagnosis(diagnosis), new Medication(""), new FollowUp(""));
+    }
+}
@@ -7,11 +7,15 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -127,6 +131,25 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_existingPerson_keepsRemainingPersonsAddressable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, BOB);
+        assertEquals(Arrays.asList(BENSON, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(CARL));
+        assertEquals(Optional.of(BOB), uniquePersonList.getPersonByNric(BOB.getNric()));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -168,6 +191,27 @@ public class UniquePersonListTest {
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void getNricsWithNameWords_anyWordIgnoringCase_matchingNrics() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertEquals(Set.of(ALICE.getNric(), BENSON.getNric()),
+                uniquePersonList.getNricsWithNameWords(List.of("PAULINE", "meier")));
+        assertEquals(Set.of(), uniquePersonList.getNricsWithNameWords(List.of("Paul", "Alice Pauline")));
+    }
+
+    @Test
+    public void getNricsWithNameWords_afterRenameAndRemove_indexUpdated() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        uniquePersonList.remove(BENSON);
+
+        assertEquals(Set.of(), uniquePersonList.getNricsWithNameWords(List.of("alice", "benson")));
+        assertEquals(Set.of(ALICE.getNric()), uniquePersonList.getNricsWithNameWords(List.of("alicia")));
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
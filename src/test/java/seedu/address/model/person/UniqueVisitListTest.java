@@ -0,0 +1,166 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.exceptions.DuplicateVisitException;
+import seedu.address.model.person.exceptions.VisitNotFoundException;
+
+public class UniqueVisitListTest {
+
+    private static final Visit ALICE_VISIT = createVisit(ALICE, "2024-01-01 10:00", "Flu");
+    private static final Visit ALICE_LATER_VISIT = createVisit(ALICE, "2024-02-01 10:00", "Cough");
+    private static final Visit BENSON_VISIT = createVisit(BENSON, "2024-01-01 10:00", "Flu");
+
+    private final UniqueVisitList uniqueVisitList = new UniqueVisitList();
+
+    @Test
+    public void contains_visitNotInList_returnsFalse() {
+        assertFalse(uniqueVisitList.contains(ALICE_VISIT));
+    }
+
+    @Test
+    public void contains_equalVisitInList_returnsTrue() {
+        uniqueVisitList.add(ALICE_VISIT);
+        assertTrue(uniqueVisitList.contains(createVisit(ALICE, "2024-01-01 10:00", "Flu")));
+    }
+
+    @Test
+    public void add_duplicateVisit_throwsDuplicateVisitException() {
+        uniqueVisitList.add(ALICE_VISIT);
+        assertThrows(DuplicateVisitException.class, () -> uniqueVisitList.add(ALICE_VISIT));
+    }
+
+    @Test
+    public void add_visitsWithoutIds_idsAssignedInIncreasingOrder() {
+        Visit aliceVisit = uniqueVisitList.add(ALICE_VISIT);
+        Visit bensonVisit = uniqueVisitList.add(BENSON_VISIT);
+        assertTrue(aliceVisit.hasId());
+        assertTrue(bensonVisit.getId() > aliceVisit.getId());
+        assertEquals(Optional.of(bensonVisit), uniqueVisitList.getVisitById(bensonVisit.getId()));
+    }
+
+    @Test
+    public void add_visitWithIdInUse_throwsDuplicateVisitException() {
+        Visit aliceVisit = uniqueVisitList.add(ALICE_VISIT);
+        assertThrows(DuplicateVisitException.class, () -> uniqueVisitList.add(BENSON_VISIT.withId(aliceVisit.getId())));
+    }
+
+    @Test
+    public void setVisit_validEdit_keepsId() {
+        Visit aliceVisit = uniqueVisitList.add(ALICE_VISIT);
+        Visit editedVisit = uniqueVisitList.setVisit(aliceVisit, ALICE_LATER_VISIT);
+        assertEquals(aliceVisit.getId(), editedVisit.getId());
+
+        // the visit as it was before the edit is no longer in the list
+        assertThrows(VisitNotFoundException.class, () -> uniqueVisitList.remove(aliceVisit));
+        assertEquals(editedVisit, uniqueVisitList.remove(editedVisit));
+    }
+
+    @Test
+    public void setVisit_targetNotInList_throwsVisitNotFoundException() {
+        assertThrows(VisitNotFoundException.class, () -> uniqueVisitList.setVisit(ALICE_VISIT, BENSON_VISIT));
+    }
+
+    @Test
+    public void setVisit_editedVisitAlreadyInList_throwsDuplicateVisitException() {
+        uniqueVisitList.add(ALICE_VISIT);
+        uniqueVisitList.add(BENSON_VISIT);
+        assertThrows(DuplicateVisitException.class, () -> uniqueVisitList.setVisit(ALICE_VISIT, BENSON_VISIT));
+    }
+
+    @Test
+    public void setVisit_validEdit_keepsPosition() {
+        uniqueVisitList.add(ALICE_VISIT);
+        uniqueVisitList.add(BENSON_VISIT);
+        uniqueVisitList.setVisit(ALICE_VISIT, ALICE_LATER_VISIT);
+        assertEquals(Arrays.asList(ALICE_LATER_VISIT, BENSON_VISIT), uniqueVisitList.asUnmodifiableObservableList());
+        assertFalse(uniqueVisitList.contains(ALICE_VISIT));
+        assertTrue(uniqueVisitList.contains(ALICE_LATER_VISIT));
+    }
+
+    @Test
+    public void remove_visitNotInList_throwsVisitNotFoundException() {
+        assertThrows(VisitNotFoundException.class, () -> uniqueVisitList.remove(ALICE_VISIT));
+    }
+
+    @Test
+    public void remove_existingVisit_keepsOrderOfRemainingVisits() {
+        uniqueVisitList.add(ALICE_VISIT);
+        uniqueVisitList.add(ALICE_LATER_VISIT);
+        uniqueVisitList.add(BENSON_VISIT);
+        uniqueVisitList.remove(ALICE_VISIT);
+        assertEquals(Arrays.asList(ALICE_LATER_VISIT, BENSON_VISIT), uniqueVisitList.asUnmodifiableObservableList());
+
+        // positions of the remaining visits are still tracked correctly
+        uniqueVisitList.remove(BENSON_VISIT);
+        assertEquals(List.of(ALICE_LATER_VISIT), uniqueVisitList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setVisits_listWithDuplicateVisits_throwsDuplicateVisitException() {
+        List<Visit> listWithDuplicateVisits = Arrays.asList(ALICE_VISIT, createVisit(ALICE, "2024-01-01 10:00", "Flu"));
+        assertThrows(DuplicateVisitException.class, () -> uniqueVisitList.setVisits(listWithDuplicateVisits));
+    }
+
+    @Test
+    public void setVisits_list_replacesOwnList() {
+        uniqueVisitList.add(ALICE_VISIT);
+        uniqueVisitList.setVisits(List.of(BENSON_VISIT));
+        UniqueVisitList expectedUniqueVisitList = new UniqueVisitList();
+        expectedUniqueVisitList.add(BENSON_VISIT);
+        assertEquals(expectedUniqueVisitList, uniqueVisitList);
+        assertFalse(uniqueVisitList.contains(ALICE_VISIT));
+    }
+
+    @Test
+    public void getVisitsMatching_textAndRange_matchingVisitsByTime() {
+        uniqueVisitList.add(ALICE_LATER_VISIT);
+        uniqueVisitList.add(ALICE_VISIT);
+        uniqueVisitList.add(createVisit(BENSON, "2024-03-01 10:00", "Influenza"));
+        uniqueVisitList.add(createVisit(BENSON, "2024-01-02 10:00", "Whooping cough"));
+
+        assertEquals(List.of(ALICE_VISIT, createVisit(BENSON, "2024-03-01 10:00", "Influenza")),
+                uniqueVisitList.getVisitsMatching(createQuery(null, "FLU")));
+        assertEquals(List.of(createVisit(BENSON, "2024-01-02 10:00", "Whooping cough")),
+                uniqueVisitList.getVisitsMatching(createQuery(new DateTime("2024-01-31 23:59"), "cough")));
+        assertEquals(List.of(), uniqueVisitList.getVisitsMatching(createQuery(null, "flux")));
+    }
+
+    @Test
+    public void getVisitsMatching_afterEditAndRemove_indexUpdated() {
+        uniqueVisitList.add(ALICE_VISIT);
+        uniqueVisitList.add(BENSON_VISIT);
+        Visit editedVisit = createVisit(ALICE, "2024-01-01 10:00", "Cough");
+        uniqueVisitList.setVisit(ALICE_VISIT, editedVisit);
+        uniqueVisitList.remove(BENSON_VISIT);
+
+        assertEquals(List.of(), uniqueVisitList.getVisitsMatching(createQuery(null, "flu")));
+        assertEquals(List.of(editedVisit), uniqueVisitList.getVisitsMatching(createQuery(null, "ou")));
+    }
+
+    @Test
+    public void hashCode_equalVisits_sameHashCode() {
+        assertEquals(ALICE_VISIT.hashCode(), createVisit(ALICE, "2024-01-01 10:00", "Flu").hashCode());
+    }
+
+    private static VisitQuery createQuery(DateTime to, String diagnosis) {
+        return new VisitQuery(null, to, Map.of(VisitTextField.DIAGNOSIS, diagnosis));
+    }
+
+    private static Visit createVisit(Person person, String dateTime, String diagnosis) {
+        return new Visit(person, new DateTime(dateTime), new Remark(""), new Symptom(""),
+                new Diagnosis(diagnosis), new Medication(""), new FollowUp(""));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class VisitTextIndexTest {
+
+    private static final Visit PARACETAMOL_VISIT = createVisit(1, "Paracetamol 500mg");
+    private static final Visit IBUPROFEN_VISIT = createVisit(2, "Ibuprofen");
+    private static final Visit BOTH_VISIT = createVisit(3, "ibuprofen, PARACETAMOL");
+
+    private final VisitTextIndex index = new VisitTextIndex(VisitTextField.MEDICATION);
+
+    @Test
+    public void search_substring_ignoresCase() {
+        addAll();
+        assertEquals(Set.of(1L, 3L), index.search("paracetamol"));
+        assertEquals(Set.of(2L, 3L), index.search("profen"));
+        assertEquals(Set.of(3L), index.search(", para"));
+    }
+
+    @Test
+    public void search_allTrigramsPresentButNotTogether_noMatch() {
+        // "ibu" and "pro" both appear in the text, but "ibupro" must still be checked against it
+        index.add(createVisit(4, "ibu then pro"));
+        assertEquals(Set.of(), index.search("ibupro"));
+    }
+
+    @Test
+    public void search_shorterThanTrigram_checksEveryVisit() {
+        addAll();
+        assertEquals(Set.of(1L, 2L, 3L), index.search("p"));
+        assertEquals(Set.of(1L, 2L, 3L), index.search(""));
+    }
+
+    @Test
+    public void remove_addedVisit_noLongerFound() {
+        addAll();
+        index.remove(BOTH_VISIT);
+        assertEquals(Set.of(1L), index.search("paracetamol"));
+        index.clear();
+        assertEquals(Set.of(), index.search("ibuprofen"));
+    }
+
+    private void addAll() {
+        index.add(PARACETAMOL_VISIT);
+        index.add(IBUPROFEN_VISIT);
+        index.add(BOTH_VISIT);
+    }
+
+    private static Visit createVisit(long id, String medication) {
+        return new Visit(id, ALICE.getNric(), new DateTime("2024-01-01 10:00"), new Remark(""), new Symptom(""),
+                new Diagnosis(""), new Medication(medication), new FollowUp(""));
+    }
+}
@@ -0,0 +1,233 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalMedLogger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.MedLogger;
+import seedu.address.model.ReadOnlyMedLogger;
+import seedu.address.model.person.DateTime;
+import seedu.address.model.person.Diagnosis;
+import seedu.address.model.person.FollowUp;
+import seedu.address.model.person.Medication;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonVisitDictionary;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Symptom;
+import seedu.address.model.person.Visit;
+
+public class BinaryMedLoggerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readMedLogger_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryMedLoggerStorage(testFolder.resolve("medLogger.bin")).readMedLogger(null));
+    }
+
+    @Test
+    public void readMedLogger_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryMedLoggerStorage(testFolder.resolve("medLogger.bin")).readMedLogger().isPresent());
+    }
+
+    @Test
+    public void readMedLogger_jsonFileWithDuplicateVisitId_throwsDataLoadingException() {
+        Path filePath = Paths.get("src", "test", "data", "JsonMedLoggerStorageTest", "duplicateVisitIdMedLogger.json");
+        assertThrows(DataLoadingException.class, () -> new BinaryMedLoggerStorage(filePath).readMedLogger());
+    }
+
+    @Test
+    public void readMedLogger_binaryFileWithDuplicateVisitId_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.bin");
+        Visit firstVisit = new Visit(1, ALICE.getNric(), new DateTime("2024-01-01 10:00"), new Remark("Checkup"),
+                new Symptom("Cough"), new Diagnosis("Flu"), new Medication("Rest"), new FollowUp("None"));
+        Visit secondVisit = new Visit(1, ALICE.getNric(), new DateTime("2024-01-02 10:00"), new Remark("Review"),
+                new Symptom("Cough"), new Diagnosis("Flu"), new Medication("Rest"), new FollowUp("None"));
+        ObservableList<Person> persons = FXCollections.observableArrayList(ALICE);
+        ObservableList<Visit> visits = FXCollections.observableArrayList(firstVisit, secondVisit);
+        BinaryMedLoggerWriter.write(new ReadOnlyMedLogger() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return persons;
+            }
+
+            @Override
+            public ObservableList<Visit> getVisitList() {
+                return visits;
+            }
+
+            @Override
+            public PersonVisitDictionary getDictionary() {
+                return new PersonVisitDictionary();
+            }
+        }, filePath);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryMedLoggerStorage(filePath).readMedLogger());
+    }
+
+    @Test
+    public void readAndSaveMedLogger_withVisits_readBackEqual() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.bin");
+        BinaryMedLoggerStorage storage = new BinaryMedLoggerStorage(filePath);
+        MedLogger original = getTypicalMedLoggerWithVisits();
+
+        storage.saveMedLogger(original);
+        assertTrue(BinaryMedLoggerReader.isBinaryFile(filePath));
+        ReadOnlyMedLogger readBack = storage.readMedLogger().get();
+        assertEquals(original, new MedLogger(readBack));
+        assertEquals(original.getVisitList(), readBack.getVisitList());
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveMedLogger(original);
+        readBack = storage.readMedLogger().get();
+        assertEquals(original, new MedLogger(readBack));
+        assertEquals(original.getVisitList(), readBack.getVisitList());
+    }
+
+    @Test
+    public void read_smallChunks_readBackEqual() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.bin");
+        MedLogger original = getTypicalMedLoggerWithVisits();
+        BinaryMedLoggerStorage storage = new BinaryMedLoggerStorage(filePath);
+        storage.saveMedLogger(original);
+
+        // chunks smaller than most records and strings
+        for (int chunkSize : new int[] {1, 16, 100}) {
+            MedLogger readBack = BinaryMedLoggerReader.read(filePath, chunkSize);
+            assertEquals(original, readBack);
+            assertEquals(original.getVisitList(), readBack.getVisitList());
+        }
+
+        // nothing holds on to the file once it is read, so the next save can replace it
+        original.removePerson(ALICE);
+        storage.saveMedLogger(original);
+        assertEquals(original, BinaryMedLoggerReader.read(filePath, 16));
+    }
+
+    @Test
+    public void read_truncatedFileInSmallChunks_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.bin");
+        new BinaryMedLoggerStorage(filePath).saveMedLogger(getTypicalMedLoggerWithVisits());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(IOException.class, () -> BinaryMedLoggerReader.read(filePath, 16));
+    }
+
+    @Test
+    public void readMedLogger_repeatedStrings_sharedAfterReading() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.bin");
+        BinaryMedLoggerStorage storage = new BinaryMedLoggerStorage(filePath);
+        storage.saveMedLogger(getTypicalMedLoggerWithVisits());
+
+        ReadOnlyMedLogger readBack = storage.readMedLogger().get();
+        Visit first = readBack.getVisitList().get(0);
+        Visit second = readBack.getVisitList().get(1);
+        assertSame(first.getDiagnosis().value, second.getDiagnosis().value);
+    }
+
+    @Test
+    public void readMedLogger_jsonFile_convertedLosslessly() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.data");
+        MedLogger original = getTypicalMedLoggerWithVisits();
+        new JsonMedLoggerStorage(filePath).saveMedLogger(original);
+
+        // JSON to binary
+        BinaryMedLoggerStorage binaryStorage = new BinaryMedLoggerStorage(filePath);
+        binaryStorage.saveMedLogger(binaryStorage.readMedLogger().get());
+        assertTrue(BinaryMedLoggerReader.isBinaryFile(filePath));
+
+        // Binary back to JSON
+        JsonMedLoggerStorage jsonStorage = new JsonMedLoggerStorage(filePath);
+        jsonStorage.saveMedLogger(jsonStorage.readMedLogger().get());
+        assertFalse(BinaryMedLoggerReader.isBinaryFile(filePath));
+
+        ReadOnlyMedLogger readBack = jsonStorage.readMedLogger().get();
+        assertEquals(original, new MedLogger(readBack));
+        assertEquals(original.getVisitList(), readBack.getVisitList());
+    }
+
+    @Test
+    public void readMedLogger_visitIds_keptInBothFormats() throws Exception {
+        MedLogger original = getTypicalMedLoggerWithVisits();
+        // leaves a gap, so that IDs given to the visits on reading would not match
+        original.removeVisit(original.getVisitList().get(0));
+
+        for (MedLoggerStorage storage : List.of(new JsonMedLoggerStorage(testFolder.resolve("medLogger.json")),
+                new BinaryMedLoggerStorage(testFolder.resolve("medLogger.bin")))) {
+            storage.saveMedLogger(original);
+            assertEquals(getVisitIds(original), getVisitIds(storage.readMedLogger().get()));
+        }
+    }
+
+    @Test
+    public void readMedLogger_corruptedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.bin");
+        BinaryMedLoggerStorage storage = new BinaryMedLoggerStorage(filePath);
+        storage.saveMedLogger(getTypicalMedLoggerWithVisits());
+
+        byte[] content = Files.readAllBytes(filePath);
+        content[content.length / 2] ^= 1;
+        Files.write(filePath, content);
+
+        assertThrows(DataLoadingException.class, () -> storage.readMedLogger());
+    }
+
+    @Test
+    public void readMedLogger_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.bin");
+        BinaryMedLoggerStorage storage = new BinaryMedLoggerStorage(filePath);
+        storage.saveMedLogger(getTypicalMedLoggerWithVisits());
+
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 10));
+
+        assertThrows(DataLoadingException.class, () -> storage.readMedLogger());
+    }
+
+    @Test
+    public void saveMedLogger_nullMedLogger_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryMedLoggerStorage(testFolder.resolve("medLogger.bin")).saveMedLogger(null));
+    }
+
+    private static MedLogger getTypicalMedLoggerWithVisits() {
+        MedLogger medLogger = getTypicalMedLogger();
+        medLogger.addVisit(createVisit(ALICE, "2024-01-01 10:00"));
+        medLogger.addVisit(createVisit(BENSON, "2024-01-02 10:00"));
+        return medLogger;
+    }
+
+    private static List<Long> getVisitIds(ReadOnlyMedLogger medLogger) {
+        return medLogger.getVisitList().stream().map(Visit::getId).collect(Collectors.toList());
+    }
+
+    private static Visit createVisit(Person person, String dateTime) {
+        return new Visit(person, new DateTime(dateTime), new Remark("Checkup"), new Symptom("Cough"),
+                new Diagnosis("Flu"), new Medication("Rest"), new FollowUp("None"));
+    }
+}
@@ -0,0 +1,233 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalMedLogger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.MedLogger;
+import seedu.address.model.MedLoggerChange;
+import seedu.address.model.ReadOnlyMedLogger;
+import seedu.address.model.person.DateTime;
+import seedu.address.model.person.Diagnosis;
+import seedu.address.model.person.FollowUp;
+import seedu.address.model.person.Medication;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Symptom;
+import seedu.address.model.person.Visit;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledMedLoggerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveMedLoggerChanges_afterSnapshot_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        JournaledMedLoggerStorage storage = createStorage(filePath, 100);
+        MedLogger medLogger = getTypicalMedLogger();
+        List<MedLoggerChange> changes = new ArrayList<>();
+        medLogger.addListener(changes::add);
+
+        // first save writes a full snapshot
+        addVisits(medLogger);
+        storage.saveMedLoggerChanges(medLogger, changes);
+        changes.clear();
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(JournaledMedLoggerStorage.getJournalPath(filePath)));
+
+        // later saves only append to the journal
+        medLogger.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        medLogger.removeVisit(medLogger.getVisitList().get(0));
+        medLogger.addPerson(HOON);
+        medLogger.removePerson(BENSON);
+        storage.saveMedLoggerChanges(medLogger, changes);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(JournaledMedLoggerStorage.getJournalPath(filePath)).size());
+        assertSameData(medLogger, createStorage(filePath, 100).readMedLogger().get());
+    }
+
+    @Test
+    public void saveMedLoggerChanges_thresholdReached_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        JournaledMedLoggerStorage storage = createStorage(filePath, 2);
+        MedLogger medLogger = getTypicalMedLogger();
+        List<MedLoggerChange> changes = new ArrayList<>();
+        medLogger.addListener(changes::add);
+        storage.saveMedLogger(medLogger);
+
+        addVisits(medLogger);
+        medLogger.addPerson(HOON);
+        storage.saveMedLoggerChanges(medLogger, changes);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(JournaledMedLoggerStorage.getJournalPath(filePath)));
+        assertFalse(Files.exists(JournaledMedLoggerStorage.getCompactingJournalPath(filePath)));
+        assertSameData(medLogger, new JsonMedLoggerStorage(filePath).readMedLogger().get());
+    }
+
+    @Test
+    public void saveMedLoggerChanges_reset_savesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        JournaledMedLoggerStorage storage = createStorage(filePath, 100);
+        MedLogger medLogger = getTypicalMedLogger();
+        List<MedLoggerChange> changes = new ArrayList<>();
+        medLogger.addListener(changes::add);
+        storage.saveMedLogger(medLogger);
+
+        medLogger.addPerson(HOON);
+        medLogger.resetData(new MedLogger());
+        storage.saveMedLoggerChanges(medLogger, changes);
+
+        assertFalse(Files.exists(JournaledMedLoggerStorage.getJournalPath(filePath)));
+        assertSameData(new MedLogger(), new JsonMedLoggerStorage(filePath).readMedLogger().get());
+    }
+
+    @Test
+    public void saveMedLogger_withJournal_markerWrittenBeforeSnapshotReplacesDataFile() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        Path journalPath = JournaledMedLoggerStorage.getJournalPath(filePath);
+        List<String> journalEndsBeforeReplace = new ArrayList<>();
+        List<Path> copiesWritten = new ArrayList<>();
+        JsonMedLoggerStorage snapshotStorage = new JsonMedLoggerStorage(filePath) {
+            @Override
+            public void saveMedLogger(ReadOnlyMedLogger medLogger, Path path) throws IOException {
+                copiesWritten.add(path);
+                super.saveMedLogger(medLogger, path);
+            }
+
+            @Override
+            public void saveMedLogger(ReadOnlyMedLogger medLogger, Path path, FileUtil.BeforeReplace beforeReplace)
+                    throws IOException {
+                copiesWritten.add(path);
+                super.saveMedLogger(medLogger, path, writtenFile -> {
+                    beforeReplace.run(writtenFile);
+                    if (!Files.exists(journalPath)) {
+                        return;
+                    }
+                    List<String> lines = Files.readAllLines(journalPath);
+                    journalEndsBeforeReplace.add(lines.get(lines.size() - 1));
+                });
+            }
+        };
+        JournaledMedLoggerStorage storage = new JournaledMedLoggerStorage(snapshotStorage, 100, Duration.ofHours(1));
+        MedLogger medLogger = getTypicalMedLogger();
+        List<MedLoggerChange> changes = new ArrayList<>();
+        medLogger.addListener(changes::add);
+        storage.saveMedLogger(medLogger);
+        medLogger.addPerson(HOON);
+        storage.saveMedLoggerChanges(medLogger, changes);
+        copiesWritten.clear();
+        journalEndsBeforeReplace.clear();
+
+        storage.saveMedLogger(medLogger);
+
+        // the snapshot is written once, straight through the atomic save of the snapshot storage
+        assertEquals(List.of(filePath), copiesWritten);
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(filePath));
+        assertEquals(List.of("{\"type\":\"SNAPSHOT\",\"checksum\":" + crc.getValue() + "}"),
+                journalEndsBeforeReplace);
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void readMedLogger_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        JournaledMedLoggerStorage storage = createStorage(filePath, 100);
+        MedLogger medLogger = getTypicalMedLogger();
+        List<MedLoggerChange> changes = new ArrayList<>();
+        medLogger.addListener(changes::add);
+        storage.saveMedLogger(medLogger);
+
+        medLogger.addPerson(HOON);
+        storage.saveMedLoggerChanges(medLogger, changes);
+        Files.write(JournaledMedLoggerStorage.getJournalPath(filePath),
+                "{\"type\":\"ADD_PERS".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertSameData(medLogger, createStorage(filePath, 100).readMedLogger().get());
+    }
+
+    @Test
+    public void readMedLogger_journalAlreadyInSnapshot_notReplayedAgain() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        JournaledMedLoggerStorage storage = createStorage(filePath, 100);
+        MedLogger medLogger = getTypicalMedLogger();
+        List<MedLoggerChange> changes = new ArrayList<>();
+        medLogger.addListener(changes::add);
+        storage.saveMedLogger(medLogger);
+
+        medLogger.addPerson(HOON);
+        storage.saveMedLoggerChanges(medLogger, changes);
+        Path journalPath = JournaledMedLoggerStorage.getJournalPath(filePath);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        // simulates stopping after the snapshot is written but before the journal is deleted
+        storage.saveMedLogger(medLogger);
+        Files.write(journalPath, journal);
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(filePath));
+        Files.writeString(journalPath, "{\"type\":\"SNAPSHOT\",\"checksum\":" + crc.getValue() + "}\n",
+                StandardOpenOption.APPEND);
+
+        assertSameData(medLogger, createStorage(filePath, 100).readMedLogger().get());
+    }
+
+    @Test
+    public void readMedLogger_journalWithoutSnapshot_replaysOnEmptyData() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        JournaledMedLoggerStorage storage = createStorage(filePath, 100);
+        MedLogger medLogger = new MedLogger();
+        List<MedLoggerChange> changes = new ArrayList<>();
+        medLogger.addListener(changes::add);
+        storage.saveMedLogger(medLogger);
+
+        medLogger.addPerson(ALICE);
+        storage.saveMedLoggerChanges(medLogger, changes);
+        Files.delete(filePath);
+
+        ReadOnlyMedLogger readBack = createStorage(filePath, 100).readMedLogger().get();
+        assertSameData(medLogger, readBack);
+        assertTrue(readBack.getVisitList().isEmpty());
+    }
+
+    private static JournaledMedLoggerStorage createStorage(Path filePath, int compactionThreshold) {
+        return new JournaledMedLoggerStorage(new JsonMedLoggerStorage(filePath), compactionThreshold,
+                Duration.ofHours(1));
+    }
+
+    private static void addVisits(MedLogger medLogger) {
+        medLogger.addVisit(createVisit(ALICE, "2024-01-01 10:00"));
+        medLogger.addVisit(createVisit(BENSON, "2024-01-02 10:00"));
+    }
+
+    private static Visit createVisit(Person person, String dateTime) {
+        return new Visit(person, new DateTime(dateTime), new Remark(""), new Symptom("Fever"),
+                new Diagnosis("Flu"), new Medication(""), new FollowUp(""));
+    }
+
+    private static void assertSameData(ReadOnlyMedLogger expected, ReadOnlyMedLogger actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        assertEquals(expected.getVisitList(), actual.getVisitList());
+    }
+}
@@ -9,8 +9,11 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalMedLogger;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +21,13 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.MedLogger;
 import seedu.address.model.ReadOnlyMedLogger;
+import seedu.address.model.person.DateTime;
+import seedu.address.model.person.Diagnosis;
+import seedu.address.model.person.FollowUp;
+import seedu.address.model.person.Medication;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Symptom;
+import seedu.address.model.person.Visit;
 
 public class JsonMedLoggerStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonMedLoggerStorageTest");
@@ -60,6 +70,19 @@ public class JsonMedLoggerStorageTest {
         assertThrows(DataLoadingException.class, () -> readMedLogger("invalidAndValidPersonMedLogger.json"));
     }
 
+    @Test
+    public void readMedLogger_duplicateVisitId_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readMedLogger("duplicateVisitIdMedLogger.json"));
+    }
+
+    @Test
+    public void readMedLogger_visitsBeforePersons_success() throws Exception {
+        ReadOnlyMedLogger readBack = readMedLogger("visitsBeforePersonsMedLogger.json").get();
+        assertEquals(List.of(ALICE), readBack.getPersonList());
+        assertEquals(1, readBack.getVisitList().size());
+        assertEquals(ALICE.getNric(), readBack.getVisitList().get(0).getNric());
+    }
+
     @Test
     public void readAndSaveMedLogger_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempMedLogger.json");
@@ -86,6 +109,43 @@ public class JsonMedLoggerStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveMedLogger_withVisits_prettyAndCompactReadBackEqual() throws Exception {
+        MedLogger original = getTypicalMedLogger();
+        original.addVisit(new Visit(ALICE, new DateTime("2024-01-01 10:00"), new Remark("Checkup"),
+                new Symptom("Cough"), new Diagnosis("Flu"), new Medication("Rest"), new FollowUp("None")));
+
+        for (boolean isPrettyPrinted : new boolean[] {true, false}) {
+            Path filePath = testFolder.resolve("TempMedLogger" + isPrettyPrinted + ".json");
+            JsonMedLoggerStorage jsonMedLoggerStorage = new JsonMedLoggerStorage(filePath, isPrettyPrinted);
+            jsonMedLoggerStorage.saveMedLogger(original);
+            ReadOnlyMedLogger readBack = jsonMedLoggerStorage.readMedLogger().get();
+            assertEquals(original, new MedLogger(readBack));
+            assertEquals(original.getVisitList(), readBack.getVisitList());
+        }
+    }
+
+    @Test
+    public void readMedLogger_savedFileCorrupted_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempMedLogger.json");
+        new JsonMedLoggerStorage(filePath).saveMedLogger(getTypicalMedLogger());
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.replace("Alice Pauline", "Alice Paulinf"));
+
+        assertThrows(DataLoadingException.class, () -> new JsonMedLoggerStorage(filePath).readMedLogger());
+    }
+
+    @Test
+    public void saveMedLogger_existingFile_replacedWithoutTempFile() throws Exception {
+        Path filePath = testFolder.resolve("TempMedLogger.json");
+        JsonMedLoggerStorage jsonMedLoggerStorage = new JsonMedLoggerStorage(filePath);
+        jsonMedLoggerStorage.saveMedLogger(getTypicalMedLogger());
+        jsonMedLoggerStorage.saveMedLogger(new MedLogger());
+
+        assertEquals(new MedLogger(), jsonMedLoggerStorage.readMedLogger().get());
+        assertEquals(List.of(filePath), Files.list(testFolder).collect(Collectors.toList()));
+    }
+
     @Test
     public void saveMedLogger_nullMedLogger_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveMedLogger(null, "SomeFile.json"));
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.MedLogger;
+import seedu.address.model.person.DateTime;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableMedLoggerTest {
@@ -19,6 +20,8 @@ public class JsonSerializableMedLoggerTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsMedLogger.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonMedLogger.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonMedLogger.json");
+    private static final Path MULTIPLE_INVALID_ENTRIES_FILE =
+            TEST_DATA_FOLDER.resolve("multipleInvalidEntriesMedLogger.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +47,11 @@ public class JsonSerializableMedLoggerTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_multipleInvalidVisits_reportsFirstInvalidVisit() throws Exception {
+        JsonSerializableMedLogger dataFromFile = JsonUtil.readJsonFile(MULTIPLE_INVALID_ENTRIES_FILE,
+                JsonSerializableMedLogger.class).get();
+        assertThrows(IllegalValueException.class, DateTime.MESSAGE_CONSTRAINTS, dataFromFile::toModelType);
+    }
+
 }
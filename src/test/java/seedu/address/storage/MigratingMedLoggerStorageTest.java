@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalMedLogger;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.MedLogger;
+import seedu.address.model.MedLoggerChange;
+
+public class MigratingMedLoggerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveMedLoggerChanges_dataInPreviousStorage_movedToCurrentStorage() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        JsonMedLoggerStorage singleFileStorage = new JsonMedLoggerStorage(filePath);
+        singleFileStorage.saveMedLogger(getTypicalMedLogger());
+        ShardedMedLoggerStorage shardedStorage = new ShardedMedLoggerStorage(filePath, 4, JsonMedLoggerStorage::new);
+        MigratingMedLoggerStorage storage = new MigratingMedLoggerStorage(shardedStorage, singleFileStorage);
+
+        MedLogger medLogger = new MedLogger(storage.readMedLogger().get());
+        List<MedLoggerChange> changes = new ArrayList<>();
+        medLogger.addListener(changes::add);
+        medLogger.addPerson(HOON);
+        storage.saveMedLoggerChanges(medLogger, changes);
+
+        assertFalse(Files.exists(filePath));
+        assertTrue(shardedStorage.readMedLogger().get().getPersonList().containsAll(medLogger.getPersonList()));
+        assertEquals(medLogger.getPersonList().size(), storage.readMedLogger().get().getPersonList().size());
+    }
+
+    @Test
+    public void saveMedLogger_previousStorageUnreadable_previousStorageKept() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        Files.writeString(filePath, "not json");
+        JsonMedLoggerStorage singleFileStorage = new JsonMedLoggerStorage(filePath);
+        ShardedMedLoggerStorage shardedStorage = new ShardedMedLoggerStorage(filePath, 4, JsonMedLoggerStorage::new);
+        MigratingMedLoggerStorage storage = new MigratingMedLoggerStorage(shardedStorage, singleFileStorage);
+
+        assertThrows(DataLoadingException.class, storage::readMedLogger);
+        storage.saveMedLogger(new MedLogger());
+
+        assertEquals("not json", Files.readString(filePath));
+    }
+}
@@ -0,0 +1,303 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalMedLogger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.MedLogger;
+import seedu.address.model.MedLoggerChange;
+import seedu.address.model.ReadOnlyMedLogger;
+import seedu.address.model.person.DateTime;
+import seedu.address.model.person.Diagnosis;
+import seedu.address.model.person.FollowUp;
+import seedu.address.model.person.Medication;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonVisitDictionary;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Symptom;
+import seedu.address.model.person.Visit;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedMedLoggerStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readMedLogger_noShards_emptyResult() throws Exception {
+        assertFalse(createStorage(testFolder.resolve("medLogger.json")).readMedLogger().isPresent());
+    }
+
+    @Test
+    public void readAndSaveMedLogger_allShards_readBackSameData() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        MedLogger original = getTypicalMedLoggerWithVisits();
+        createStorage(filePath).saveMedLogger(original);
+
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            assertTrue(Files.exists(ShardedMedLoggerStorage.getShardPath(filePath, shard)));
+        }
+        assertSameData(original, createStorage(filePath).readMedLogger().get());
+    }
+
+    @Test
+    public void saveMedLoggerChanges_afterFullSave_rewritesOnlyChangedShards() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        ShardedMedLoggerStorage storage = createStorage(filePath);
+        MedLogger medLogger = getTypicalMedLoggerWithVisits();
+        List<MedLoggerChange> changes = new ArrayList<>();
+        medLogger.addListener(changes::add);
+
+        // first save writes every shard
+        storage.saveMedLoggerChanges(medLogger, changes);
+        changes.clear();
+        Map<Path, String> shardContents = readShards(filePath);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        medLogger.setPerson(ALICE, editedAlice);
+        storage.saveMedLoggerChanges(medLogger, changes);
+
+        int aliceShard = storage.getShard(ALICE.getNric());
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            Path shardPath = ShardedMedLoggerStorage.getShardPath(filePath, shard);
+            if (shard == aliceShard) {
+                assertNotEquals(shardContents.get(shardPath), Files.readString(shardPath));
+            } else {
+                assertEquals(shardContents.get(shardPath), Files.readString(shardPath));
+            }
+        }
+        assertSameData(medLogger, createStorage(filePath).readMedLogger().get());
+    }
+
+    @Test
+    public void saveMedLoggerChanges_afterFullSave_doesNotGoThroughAllData() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        ShardedMedLoggerStorage storage = createStorage(filePath);
+        MedLogger medLogger = getTypicalMedLoggerWithVisits();
+        List<MedLoggerChange> changes = new ArrayList<>();
+        medLogger.addListener(changes::add);
+        storage.saveMedLoggerChanges(medLogger, changes);
+        changes.clear();
+
+        medLogger.setPerson(ALICE, new PersonBuilder(ALICE).withNric("S1234567Z").build());
+        medLogger.removePerson(BENSON);
+        medLogger.addPerson(HOON);
+        medLogger.addVisit(createVisit(HOON, "2024-01-03 10:00"));
+        ReadOnlyMedLogger lookupsOnly = new ReadOnlyMedLogger() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                throw new AssertionError("The person list should not be gone through");
+            }
+
+            @Override
+            public ObservableList<Visit> getVisitList() {
+                throw new AssertionError("The visit list should not be gone through");
+            }
+
+            @Override
+            public PersonVisitDictionary getDictionary() {
+                return medLogger.getDictionary();
+            }
+
+            @Override
+            public Optional<Person> getPersonByNric(Nric nric) {
+                return medLogger.getPersonByNric(nric);
+            }
+        };
+        storage.saveMedLoggerChanges(lookupsOnly, changes);
+
+        assertSameData(medLogger, createStorage(filePath).readMedLogger().get());
+    }
+
+    @Test
+    public void readMedLogger_personInTwoShards_keptFromOwnShard() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        ShardedMedLoggerStorage storage = createStorage(filePath);
+        MedLogger original = getTypicalMedLoggerWithVisits();
+        storage.saveMedLogger(original);
+
+        // a copy of Alice and her visit in a shard her NRIC does not belong to
+        int otherShard = (storage.getShard(ALICE.getNric()) + 1) % SHARD_COUNT;
+        Person staleAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        new JsonMedLoggerStorage(ShardedMedLoggerStorage.getShardPath(filePath, otherShard))
+                .saveMedLogger(new MedLogger(List.of(staleAlice),
+                        List.of(createVisit(staleAlice, "2023-01-01 10:00"))));
+
+        // the other persons in that shard are overwritten
+        List<Person> overwritten = original.getPersonList().stream()
+                .filter(person -> storage.getShard(person.getNric()) == otherShard)
+                .collect(Collectors.toList());
+        overwritten.forEach(original::removePerson);
+        assertSameData(original, createStorage(filePath).readMedLogger().get());
+    }
+
+    @Test
+    public void saveMedLoggerChanges_nricMovedToOtherShard_destinationShardWrittenFirst() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        List<Path> savedPaths = new ArrayList<>();
+        ShardedMedLoggerStorage storage = new ShardedMedLoggerStorage(filePath, SHARD_COUNT,
+            shardPath -> new JsonMedLoggerStorage(shardPath) {
+                @Override
+                public void saveMedLogger(ReadOnlyMedLogger medLogger, Path path) throws IOException {
+                    savedPaths.add(path);
+                    super.saveMedLogger(medLogger, path);
+                }
+            });
+        MedLogger medLogger = getTypicalMedLoggerWithVisits();
+        List<MedLoggerChange> changes = new ArrayList<>();
+        medLogger.addListener(changes::add);
+        storage.saveMedLoggerChanges(medLogger, changes);
+        changes.clear();
+        savedPaths.clear();
+
+        // Alice moves to a shard that comes after her own
+        Person movedAlice = new PersonBuilder(ALICE).withNric("S1234567Z").build();
+        int sourceShard = storage.getShard(ALICE.getNric());
+        int destinationShard = storage.getShard(movedAlice.getNric());
+        assertTrue(destinationShard > sourceShard);
+        medLogger.setPerson(ALICE, movedAlice);
+        storage.saveMedLoggerChanges(medLogger, changes);
+
+        assertEquals(List.of(ShardedMedLoggerStorage.getPendingShardPath(filePath, destinationShard),
+                ShardedMedLoggerStorage.getPendingShardPath(filePath, sourceShard)), savedPaths);
+        assertFalse(Files.exists(ShardedMedLoggerStorage.getCommitPath(filePath)));
+        assertFalse(Files.exists(ShardedMedLoggerStorage.getPendingShardPath(filePath, sourceShard)));
+        assertSameData(medLogger, createStorage(filePath).readMedLogger().get());
+    }
+
+    @Test
+    public void readMedLogger_committedSaveNotInPlace_readsCommittedShards() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        MedLogger edited = getTypicalMedLogger();
+        edited.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        int aliceShard = writeUnfinishedSave(filePath, getTypicalMedLogger(), edited);
+
+        // simulates stopping after the commit file is written, but before the shards are put in place
+        Files.writeString(ShardedMedLoggerStorage.getCommitPath(filePath), String.valueOf(aliceShard));
+
+        assertSameData(edited, createStorage(filePath).readMedLogger().get());
+    }
+
+    @Test
+    public void readMedLogger_uncommittedSave_ignored() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        MedLogger original = getTypicalMedLogger();
+        MedLogger edited = getTypicalMedLogger();
+        edited.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+
+        // simulates stopping before the commit file is written
+        writeUnfinishedSave(filePath, original, edited);
+
+        assertSameData(original, createStorage(filePath).readMedLogger().get());
+    }
+
+    @Test
+    public void saveMedLogger_afterFailedLoad_unreadableShardsKept() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        createStorage(filePath).saveMedLogger(getTypicalMedLogger());
+        Path shardPath = ShardedMedLoggerStorage.getShardPath(filePath, 0);
+        Files.writeString(shardPath, "not json");
+
+        ShardedMedLoggerStorage storage = createStorage(filePath);
+        assertThrows(DataLoadingException.class, storage::readMedLogger);
+        storage.saveMedLogger(new MedLogger());
+
+        Path shardDirectory = ShardedMedLoggerStorage.getShardDirectory(filePath);
+        List<Path> movedDirectories;
+        try (Stream<Path> siblings = Files.list(testFolder)) {
+            movedDirectories = siblings.filter(path -> path.getFileName().toString()
+                    .startsWith(shardDirectory.getFileName() + ShardedMedLoggerStorage.UNREADABLE_SUFFIX))
+                    .collect(Collectors.toList());
+        }
+        assertEquals(1, movedDirectories.size());
+        assertEquals("not json", Files.readString(movedDirectories.get(0).resolve(shardPath.getFileName())));
+        assertEquals(0, createStorage(filePath).readMedLogger().get().getPersonList().size());
+    }
+
+    @Test
+    public void deleteMedLogger_savedShards_shardDirectoryRemoved() throws Exception {
+        Path filePath = testFolder.resolve("medLogger.json");
+        ShardedMedLoggerStorage storage = createStorage(filePath);
+        storage.saveMedLogger(getTypicalMedLogger());
+
+        storage.deleteMedLogger();
+
+        assertFalse(Files.exists(ShardedMedLoggerStorage.getShardDirectory(filePath)));
+    }
+
+    private static ShardedMedLoggerStorage createStorage(Path filePath) {
+        return new ShardedMedLoggerStorage(filePath, SHARD_COUNT, JsonMedLoggerStorage::new);
+    }
+
+    /**
+     * Saves every shard of {@code saved} next to {@code filePath}, and writes the shard of Alice in {@code edited}
+     * next to it, as a save that has not been put in place yet.
+     * Returns the shard of Alice.
+     */
+    private static int writeUnfinishedSave(Path filePath, MedLogger saved, MedLogger edited) throws Exception {
+        ShardedMedLoggerStorage storage = createStorage(filePath);
+        storage.saveMedLogger(saved);
+        Path editedFilePath = filePath.resolveSibling("edited.json");
+        createStorage(editedFilePath).saveMedLogger(edited);
+        int aliceShard = storage.getShard(ALICE.getNric());
+        Files.copy(ShardedMedLoggerStorage.getShardPath(editedFilePath, aliceShard),
+                ShardedMedLoggerStorage.getPendingShardPath(filePath, aliceShard));
+        return aliceShard;
+    }
+
+    private static Map<Path, String> readShards(Path filePath) throws Exception {
+        Map<Path, String> contents = new HashMap<>();
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            Path shardPath = ShardedMedLoggerStorage.getShardPath(filePath, shard);
+            contents.put(shardPath, Files.readString(shardPath));
+        }
+        return contents;
+    }
+
+    private static MedLogger getTypicalMedLoggerWithVisits() {
+        MedLogger medLogger = getTypicalMedLogger();
+        medLogger.addVisit(createVisit(ALICE, "2024-01-01 10:00"));
+        medLogger.addVisit(createVisit(BENSON, "2024-01-02 10:00"));
+        return medLogger;
+    }
+
+    private static Visit createVisit(Person person, String dateTime) {
+        return new Visit(person, new DateTime(dateTime), new Remark(""), new Symptom("Fever"),
+                new Diagnosis("Flu"), new Medication(""), new FollowUp(""));
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same persons and visits as {@code expected}, in any order.
+     */
+    private static void assertSameData(ReadOnlyMedLogger expected, ReadOnlyMedLogger actual) {
+        assertEquals(expected.getPersonList().size(), actual.getPersonList().size());
+        assertTrue(actual.getPersonList().containsAll(expected.getPersonList()));
+        assertEquals(expected.getVisitList().size(), actual.getVisitList().size());
+        assertTrue(actual.getVisitList().containsAll(expected.getVisitList()));
+    }
+}